@@ -2,8 +2,10 @@ package com.qa.automation;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class AutomationCoverageApplication {
     public static void main(String[] args) {
         SpringApplication.run(AutomationCoverageApplication.class, args);
@@ -0,0 +1,79 @@
+package com.qa.automation.config;
+
+import com.qa.automation.utils.UpstreamGuard;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Shared HTTP client for every Jenkins integration: pooled keep-alive connections, bounded timeouts and
+ * transparent gzip decompression (HttpClient 5 sends Accept-Encoding and decodes responses by default)
+ */
+@Configuration
+public class JenkinsHttpClientConfig {
+
+    @Value("${jenkins.http.connect-timeout-ms:10000}")
+    private long connectTimeoutMs;
+
+    @Value("${jenkins.http.read-timeout-ms:60000}")
+    private long readTimeoutMs;
+
+    @Value("${jenkins.http.pool-acquire-timeout-ms:30000}")
+    private long poolAcquireTimeoutMs;
+
+    @Value("${jenkins.http.max-connections:50}")
+    private int maxConnections;
+
+    @Value("${jenkins.http.max-connections-per-route:20}")
+    private int maxConnectionsPerRoute;
+
+    @Value("${jenkins.http.connection-ttl-seconds:300}")
+    private long connectionTtlSeconds;
+
+    @Bean
+    public HttpComponentsClientHttpRequestFactory jenkinsRequestFactory() {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .setTimeToLive(TimeValue.ofSeconds(connectionTtlSeconds))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(10))
+                        .build())
+                .build();
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(poolAcquireTimeoutMs))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                .build();
+
+        // The factory closes the client (and its pool) when the context shuts down
+        return new HttpComponentsClientHttpRequestFactory(httpClient);
+    }
+
+    @Bean
+    public RestTemplate jenkinsRestTemplate(HttpComponentsClientHttpRequestFactory jenkinsRequestFactory,
+                                            @Qualifier("jenkinsUpstreamGuard") UpstreamGuard jenkinsUpstreamGuard) {
+        RestTemplate restTemplate = new RestTemplate(jenkinsRequestFactory);
+        // Rate limit, bulkhead and circuit breaker shared by every Jenkins call
+        restTemplate.getInterceptors().add(new UpstreamGuardInterceptor(jenkinsUpstreamGuard));
+        return restTemplate;
+    }
+}
@@ -0,0 +1,90 @@
+package com.qa.automation.config;
+
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Makes sure jenkins_results carries its unique (job_name, build_number) key. ddl-auto=update cannot add the key
+ * to a table that already holds duplicate builds (it only logs a warning), so on startup duplicates are merged
+ * into the newest row and the key is created here. Runs after Hibernate's schema update and before the
+ * schedulers and web server start; if the key still cannot be created, startup fails.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+@Slf4j
+public class JenkinsResultUniqueKeyMigration {
+
+    private static final String UNIQUE_KEY = "uk_jenkins_result_build";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    void ensureUniqueKey() {
+        if (uniqueKeyExists()) {
+            return;
+        }
+
+        Integer merged = transactionTemplate.execute(status -> mergeDuplicates());
+        log.warn("jenkins_results had no {} key; merged {} duplicate build rows before creating it", UNIQUE_KEY, merged);
+        try {
+            jdbcTemplate.execute("ALTER TABLE jenkins_results ADD CONSTRAINT " + UNIQUE_KEY + " UNIQUE (job_name, build_number)");
+        }
+        catch (Exception e) {
+            throw new IllegalStateException("Could not create unique key " + UNIQUE_KEY + " on jenkins_results: " + e.getMessage(), e);
+        }
+    }
+
+    private boolean uniqueKeyExists() {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM information_schema.statistics "
+                + "WHERE table_schema = DATABASE() AND table_name = 'jenkins_results' AND index_name = ?", Integer.class, UNIQUE_KEY);
+        return count != null && count > 0;
+    }
+
+    /**
+     * Keep the newest row of every duplicated build, carrying over manual fields it lacks, and drop the others
+     * together with their test cases. Returns the number of rows dropped.
+     */
+    private int mergeDuplicates() {
+        Map<String, List<Long>> idsByBuild = new LinkedHashMap<>();
+        jdbcTemplate.query("SELECT r.id, r.job_name, r.build_number FROM jenkins_results r JOIN "
+                        + "(SELECT job_name, build_number FROM jenkins_results GROUP BY job_name, build_number HAVING COUNT(*) > 1) d "
+                        + "ON r.job_name = d.job_name AND r.build_number = d.build_number "
+                        + "ORDER BY r.job_name, r.build_number, r.id DESC",
+                rs -> {
+                    idsByBuild.computeIfAbsent(rs.getString("job_name") + "#" + rs.getString("build_number"),
+                            key -> new ArrayList<>()).add(rs.getLong("id"));
+                });
+
+        int dropped = 0;
+        for (List<Long> ids : idsByBuild.values()) {
+            Long keepId = ids.get(0);
+            List<Long> dropIds = ids.subList(1, ids.size());
+            for (Long dropId : dropIds) {
+                jdbcTemplate.update("UPDATE jenkins_results k JOIN jenkins_results r ON r.id = ? SET "
+                                + "k.bugs_identified = COALESCE(k.bugs_identified, r.bugs_identified), "
+                                + "k.failure_reasons = COALESCE(k.failure_reasons, r.failure_reasons), "
+                                + "k.automation_tester_id = COALESCE(k.automation_tester_id, r.automation_tester_id), "
+                                + "k.manual_tester_id = COALESCE(k.manual_tester_id, r.manual_tester_id), "
+                                + "k.project_id = COALESCE(k.project_id, r.project_id) WHERE k.id = ?",
+                        dropId, keepId);
+            }
+            String idList = dropIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+            jdbcTemplate.update("DELETE FROM jenkins_test_cases WHERE jenkins_result_id IN (" + idList + ")");
+            dropped += jdbcTemplate.update("DELETE FROM jenkins_results WHERE id IN (" + idList + ")");
+        }
+        return dropped;
+    }
+}
@@ -1,7 +1,11 @@
 package com.qa.automation.config;
 
+import com.qa.automation.service.QTestTokenManager;
+import com.qa.automation.utils.UpstreamGuard;
 import java.util.Base64;
 import lombok.Data;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -46,7 +50,7 @@ public class JiraConfig {
     private String qtestProjectId;
 
     @Bean
-    public WebClient jiraWebClient() {
+    public WebClient jiraWebClient(@Qualifier("jiraUpstreamGuard") UpstreamGuard jiraUpstreamGuard) {
         // Increase memory limit for large Jira responses
         ExchangeStrategies strategies = ExchangeStrategies.builder()
                 .codecs(configurer -> configurer
@@ -60,11 +64,13 @@ public class JiraConfig {
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, "application/json")
                 .defaultHeader(HttpHeaders.ACCEPT, "application/json")
                 .exchangeStrategies(strategies)
+                .filter(new UpstreamGuardFilter(jiraUpstreamGuard))
                 .build();
     }
 
     @Bean
-    public WebClient qtestWebClient() {
+    public WebClient qtestWebClient(@Qualifier("qtestUpstreamGuard") UpstreamGuard qtestUpstreamGuard,
+                                    ObjectProvider<QTestTokenManager> qtestTokenManager) {
         // Increase memory limit for large qTest responses
         ExchangeStrategies strategies = ExchangeStrategies.builder()
                 .codecs(configurer -> configurer
@@ -72,7 +78,7 @@ public class JiraConfig {
                         .maxInMemorySize(16 * 1024 * 1024)) // 16MB
                 .build();
 
-        // Create base WebClient without authentication headers (will be added per request)
+        // One shared client; the bearer token is added by QTestBearerFilter
         String baseUrl = (qtestUrl != null && !qtestUrl.isEmpty()) ? qtestUrl : "http://localhost";
 
         return WebClient.builder()
@@ -80,6 +86,9 @@ public class JiraConfig {
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, "application/json")
                 .defaultHeader(HttpHeaders.ACCEPT, "application/json")
                 .exchangeStrategies(strategies)
+                // Outermost, so waiting for a login never holds a bulkhead slot and a 401 replay is guarded again
+                .filter(new QTestBearerFilter(qtestTokenManager))
+                .filter(new UpstreamGuardFilter(qtestUpstreamGuard))
                 .build();
     }
 
@@ -0,0 +1,50 @@
+package com.qa.automation.config;
+
+import com.qa.automation.service.QTestTokenManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+/**
+ * Adds the qTest bearer token to every request of the shared qTest WebClient. A 401 drops the token and the
+ * request is replayed once with a freshly obtained one. The token manager is looked up lazily because its own
+ * login call goes through this client (marked with SKIP_AUTH_ATTRIBUTE).
+ */
+@RequiredArgsConstructor
+public class QTestBearerFilter implements ExchangeFilterFunction {
+
+    public static final String SKIP_AUTH_ATTRIBUTE = QTestBearerFilter.class.getName() + ".skipAuth";
+
+    private final ObjectProvider<QTestTokenManager> tokenManagerProvider;
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        if (request.attribute(SKIP_AUTH_ATTRIBUTE).isPresent() || request.headers().containsKey(HttpHeaders.AUTHORIZATION)) {
+            return next.exchange(request);
+        }
+
+        QTestTokenManager tokenManager = tokenManagerProvider.getObject();
+        return tokenManager.getToken().flatMap(token -> next.exchange(withToken(request, token))
+                .flatMap(response -> {
+                    if (response.statusCode() != HttpStatus.UNAUTHORIZED) {
+                        return Mono.just(response);
+                    }
+                    tokenManager.invalidate(token);
+                    return response.releaseBody()
+                            .then(tokenManager.getToken())
+                            .flatMap(freshToken -> next.exchange(withToken(request, freshToken)));
+                }));
+    }
+
+    private ClientRequest withToken(ClientRequest request, String token) {
+        return ClientRequest.from(request)
+                .headers(headers -> headers.setBearerAuth(token))
+                .build();
+    }
+}
@@ -0,0 +1,29 @@
+package com.qa.automation.config;
+
+import com.qa.automation.utils.UpstreamGuard;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+/**
+ * WebClient counterpart of UpstreamGuardInterceptor, with the same max wait. Bulkhead and rate limit waits are
+ * callbacks and timer delays, so a busy or throttled upstream never parks an event loop thread.
+ */
+@RequiredArgsConstructor
+public class UpstreamGuardFilter implements ExchangeFilterFunction {
+
+    private final UpstreamGuard upstreamGuard;
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return upstreamGuard.acquireAsync().flatMap(permit -> next.exchange(request)
+                .doOnNext(response -> permit.complete(response.statusCode().value(),
+                        UpstreamGuard.parseRetryAfter(response.headers().asHttpHeaders().getFirst("Retry-After"))))
+                .doOnError(error -> permit.fail())
+                // Cancelled mid-call, typically by a caller's timeout(): treat as a slow upstream
+                .doOnCancel(permit::fail));
+    }
+}
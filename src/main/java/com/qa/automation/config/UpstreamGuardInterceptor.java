@@ -0,0 +1,34 @@
+package com.qa.automation.config;
+
+import com.qa.automation.utils.UpstreamGuard;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Runs every RestTemplate request through an upstream guard. The outcome is recorded from the status line,
+ * so streamed bodies (artifacts, console logs) hold their bulkhead slot only until headers arrive.
+ */
+@RequiredArgsConstructor
+public class UpstreamGuardInterceptor implements ClientHttpRequestInterceptor {
+
+    private final UpstreamGuard upstreamGuard;
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        UpstreamGuard.Permit permit = upstreamGuard.acquire();
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            permit.complete(response.getStatusCode().value(),
+                    UpstreamGuard.parseRetryAfter(response.getHeaders().getFirst("Retry-After")));
+            return response;
+        }
+        catch (IOException | RuntimeException e) {
+            permit.fail();
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.qa.automation.config;
+
+import com.qa.automation.utils.CircuitBreaker;
+import com.qa.automation.utils.TokenBucket;
+import com.qa.automation.utils.UpstreamGuard;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.List;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * One UpstreamGuard per external system, configured under resilience.&lt;upstream&gt;.* and published as
+ * actuator metrics (upstream.circuit.state, upstream.bulkhead.active, upstream.calls.rejected, ...)
+ * tagged with the upstream name.
+ */
+@Configuration
+public class UpstreamResilienceConfig {
+
+    @Bean
+    public UpstreamGuard jenkinsUpstreamGuard(Environment environment) {
+        return createGuard("jenkins", environment, 20, 40, 16);
+    }
+
+    @Bean
+    public UpstreamGuard jiraUpstreamGuard(Environment environment) {
+        return createGuard("jira", environment, 10, 20, 8);
+    }
+
+    @Bean
+    public UpstreamGuard qtestUpstreamGuard(Environment environment) {
+        return createGuard("qtest", environment, 10, 20, 8);
+    }
+
+    @Bean
+    public MeterBinder upstreamGuardMetrics(List<UpstreamGuard> upstreamGuards) {
+        return registry -> {
+            for (UpstreamGuard guard : upstreamGuards) {
+                // 0 = closed, 1 = open, 2 = half-open
+                Gauge.builder("upstream.circuit.state", guard, g -> g.getCircuitState().ordinal())
+                        .tag("upstream", guard.getName())
+                        .description("Circuit breaker state: 0 closed, 1 open, 2 half-open")
+                        .register(registry);
+                FunctionCounter.builder("upstream.circuit.opened", guard, UpstreamGuard::getCircuitOpenedCount)
+                        .tag("upstream", guard.getName())
+                        .register(registry);
+                Gauge.builder("upstream.bulkhead.active", guard, UpstreamGuard::getActiveCalls)
+                        .tag("upstream", guard.getName())
+                        .register(registry);
+                Gauge.builder("upstream.ratelimiter.available", guard, UpstreamGuard::getAvailableTokens)
+                        .tag("upstream", guard.getName())
+                        .register(registry);
+                FunctionCounter.builder("upstream.calls.failed", guard, UpstreamGuard::getFailedCalls)
+                        .tag("upstream", guard.getName())
+                        .register(registry);
+                for (String reason : List.of(UpstreamGuard.REJECTED_CIRCUIT_OPEN, UpstreamGuard.REJECTED_BULKHEAD_FULL,
+                        UpstreamGuard.REJECTED_RATE_LIMITED)) {
+                    FunctionCounter.builder("upstream.calls.rejected", guard, g -> g.getRejections(reason))
+                            .tag("upstream", guard.getName())
+                            .tag("reason", reason)
+                            .register(registry);
+                }
+            }
+        };
+    }
+
+    private UpstreamGuard createGuard(String name, Environment environment, double defaultRate, int defaultBurst,
+                                      int defaultConcurrent) {
+        String prefix = "resilience." + name + ".";
+        TokenBucket rateLimiter = new TokenBucket(
+                environment.getProperty(prefix + "rate-per-second", Double.class, defaultRate),
+                environment.getProperty(prefix + "burst", Integer.class, defaultBurst));
+        CircuitBreaker circuitBreaker = new CircuitBreaker(
+                environment.getProperty(prefix + "window-size", Integer.class, 50),
+                environment.getProperty(prefix + "minimum-calls", Integer.class, 20),
+                environment.getProperty(prefix + "failure-rate-threshold", Double.class, 0.5),
+                environment.getProperty(prefix + "open-duration-ms", Long.class, 30000L),
+                environment.getProperty(prefix + "half-open-calls", Integer.class, 3));
+        return new UpstreamGuard(name, rateLimiter,
+                environment.getProperty(prefix + "max-concurrent", Integer.class, defaultConcurrent),
+                circuitBreaker,
+                environment.getProperty(prefix + "max-wait-ms", Long.class, 5000L));
+    }
+}
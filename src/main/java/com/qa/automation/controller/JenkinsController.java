@@ -1,11 +1,21 @@
 package com.qa.automation.controller;
 
+import com.qa.automation.dto.JenkinsBackfillReport;
+import com.qa.automation.dto.JenkinsJobSummary;
+import com.qa.automation.dto.JenkinsSyncOutcome;
+import com.qa.automation.dto.JenkinsSyncReport;
+import com.qa.automation.exception.ResourceNotFoundException;
 import com.qa.automation.model.CombinedSaveRequest;
+import com.qa.automation.model.JenkinsIngestionDeadLetter;
+import com.qa.automation.model.JenkinsIngestionTask;
 import com.qa.automation.model.JenkinsResult;
 import com.qa.automation.model.JenkinsTestCase;
 import com.qa.automation.model.Project;
 import com.qa.automation.model.Tester;
 import com.qa.automation.model.TesterAssignmentRequest;
+import com.qa.automation.service.JenkinsBackfillService;
+import com.qa.automation.service.JenkinsIngestionQueueService;
+import com.qa.automation.service.JenkinsPollerService;
 import com.qa.automation.service.JenkinsService;
 import com.qa.automation.service.JenkinsTestNGService;
 import java.util.Date;
@@ -40,6 +50,15 @@ public class JenkinsController {
     private final JenkinsTestNGService jenkinsTestNGService;
 
 
+    private final JenkinsPollerService jenkinsPollerService;
+
+
+    private final JenkinsBackfillService jenkinsBackfillService;
+
+
+    private final JenkinsIngestionQueueService jenkinsIngestionQueueService;
+
+
     @GetMapping("/test-connection")
     @PreAuthorize(value = "@amsHelper.hasGlobalPermission(new String[]{'automation-dashboard.read','" +
             "automation-dashboard.write','automation-dashboard.admin'})")
@@ -175,18 +194,125 @@ public class JenkinsController {
         return ResponseEntity.ok(stats);
     }
 
+    @GetMapping("/jobs")
+    @PreAuthorize(value = "@amsHelper.hasGlobalPermission(new String[]{'automation-dashboard.read'," +
+            "'automation-dashboard.write','automation-dashboard.admin'})")
+    public ResponseEntity<List<JenkinsJobSummary>> discoverJobs() {
+        try {
+            return ResponseEntity.ok(jenkinsService.discoverJobs());
+        }
+        catch (Exception e) {
+            log.error("Error discovering Jenkins jobs: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @GetMapping("/poller/status")
+    @PreAuthorize(value = "@amsHelper.hasGlobalPermission(new String[]{'automation-dashboard.read'," +
+            "'automation-dashboard.write','automation-dashboard.admin'})")
+    public ResponseEntity<Map<String, Object>> getPollerStatus() {
+        try {
+            return ResponseEntity.ok(jenkinsPollerService.getStatus());
+        }
+        catch (Exception e) {
+            log.error("Error getting Jenkins poller status: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @PostMapping("/backfill")
+    @PreAuthorize(value = "@amsHelper.hasGlobalPermission(new String[]{'automation-dashboard.read'," +
+            "'automation-dashboard.write','automation-dashboard.admin'})")
+    public ResponseEntity<JenkinsBackfillReport> startBackfill(@RequestParam(required = false) Integer days,
+                                                               @RequestParam(required = false) String jobName) {
+        try {
+            log.info("Starting Jenkins backfill - days: {}, job: {}", days, jobName != null ? jobName : "all");
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(jenkinsBackfillService.startBackfill(days, jobName));
+        }
+        catch (Exception e) {
+            log.error("Error starting Jenkins backfill: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @GetMapping("/backfill/status")
+    @PreAuthorize(value = "@amsHelper.hasGlobalPermission(new String[]{'automation-dashboard.read'," +
+            "'automation-dashboard.write','automation-dashboard.admin'})")
+    public ResponseEntity<JenkinsBackfillReport> getBackfillStatus() {
+        JenkinsBackfillReport report = jenkinsBackfillService.getStatus();
+        return report != null ? ResponseEntity.ok(report) : ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/queue/status")
+    @PreAuthorize(value = "@amsHelper.hasGlobalPermission(new String[]{'automation-dashboard.read'," +
+            "'automation-dashboard.write','automation-dashboard.admin'})")
+    public ResponseEntity<Map<String, Object>> getQueueStatus() {
+        try {
+            return ResponseEntity.ok(jenkinsIngestionQueueService.getQueueStatus());
+        }
+        catch (Exception e) {
+            log.error("Error getting Jenkins ingestion queue status: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @PostMapping("/queue")
+    @PreAuthorize(value = "@amsHelper.hasGlobalPermission(new String[]{'automation-dashboard.read'," +
+            "'automation-dashboard.write','automation-dashboard.admin'})")
+    public ResponseEntity<JenkinsIngestionTask> enqueueIngestion(@RequestParam String jobName,
+                                                                 @RequestParam(required = false) Integer buildNumber) {
+        try {
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(jenkinsIngestionQueueService.enqueue(jobName, buildNumber));
+        }
+        catch (Exception e) {
+            log.error("Error queueing ingestion of job {}: {}", jobName, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @GetMapping("/queue/dead-letters")
+    @PreAuthorize(value = "@amsHelper.hasGlobalPermission(new String[]{'automation-dashboard.read'," +
+            "'automation-dashboard.write','automation-dashboard.admin'})")
+    public ResponseEntity<List<JenkinsIngestionDeadLetter>> getDeadLetters() {
+        try {
+            return ResponseEntity.ok(jenkinsIngestionQueueService.getDeadLetters());
+        }
+        catch (Exception e) {
+            log.error("Error getting Jenkins ingestion dead letters: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @PostMapping("/queue/dead-letters/{id}/requeue")
+    @PreAuthorize(value = "@amsHelper.hasGlobalPermission(new String[]{'automation-dashboard.read'," +
+            "'automation-dashboard.write','automation-dashboard.admin'})")
+    public ResponseEntity<JenkinsIngestionTask> requeueDeadLetter(@PathVariable Long id) {
+        try {
+            return ResponseEntity.ok(jenkinsIngestionQueueService.requeueDeadLetter(id));
+        }
+        catch (ResourceNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+        catch (Exception e) {
+            log.error("Error requeueing dead letter {}: {}", id, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
     @PostMapping("/sync")
     @PreAuthorize(value = "@amsHelper.hasGlobalPermission(new String[]{'automation-dashboard.read'," +
             "'automation-dashboard.write','automation-dashboard.admin'})")
-    public ResponseEntity<Map<String, String>> syncAllJobs() {
+    public ResponseEntity<Map<String, Object>> syncAllJobs(@RequestParam(required = false) Boolean incremental) {
         try {
-            jenkinsService.syncAllJobsFromJenkins();
-            Map<String, String> response = new HashMap<>();
+            JenkinsSyncReport report = incremental != null ?
+                    jenkinsService.syncAllJobsFromJenkins(incremental) : jenkinsService.syncAllJobsFromJenkins();
+            Map<String, Object> response = new HashMap<>();
             response.put("message", "Jenkins jobs synced successfully");
+            response.put("report", report);
             return ResponseEntity.ok(response);
         }
         catch (Exception e) {
-            Map<String, String> response = new HashMap<>();
+            Map<String, Object> response = new HashMap<>();
             response.put("error", "Failed to sync Jenkins jobs: " + e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
         }
@@ -195,15 +321,21 @@ public class JenkinsController {
     @PostMapping("/sync/{jobName}")
     @PreAuthorize(value = "@amsHelper.hasGlobalPermission(new String[]{'automation-dashboard.read'," +
             "'automation-dashboard.write','automation-dashboard.admin'})")
-    public ResponseEntity<Map<String, String>> syncJobResult(@PathVariable String jobName) {
+    public ResponseEntity<Map<String, Object>> syncJobResult(
+            @PathVariable String jobName,
+            @RequestParam(required = false) Boolean incremental) {
         try {
-            jenkinsService.syncJobResultFromJenkins(jobName);
-            Map<String, String> response = new HashMap<>();
+            // Through the sync pool, so a manual sync never runs alongside another sync of the same job
+            JenkinsSyncOutcome outcome = incremental != null ?
+                    jenkinsService.submitJobSync(jobName, incremental).join() :
+                    jenkinsService.submitJobSync(jobName).join();
+            Map<String, Object> response = new HashMap<>();
             response.put("message", "Job " + jobName + " synced successfully");
+            response.put("outcome", outcome);
             return ResponseEntity.ok(response);
         }
         catch (Exception e) {
-            Map<String, String> response = new HashMap<>();
+            Map<String, Object> response = new HashMap<>();
             response.put("error", "Failed to sync job " + jobName + ": " + e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
         }
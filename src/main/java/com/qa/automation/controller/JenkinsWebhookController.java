@@ -0,0 +1,66 @@
+package com.qa.automation.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.qa.automation.service.JenkinsWebhookService;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Push endpoint for Jenkins build notifications. Jenkins cannot present a user JWT, so the notify endpoint is
+ * open in SecurityConfig and authenticated here with a shared secret header instead.
+ */
+@RestController
+@RequestMapping("/api/jenkins/webhook")
+@RequiredArgsConstructor
+@Slf4j
+public class JenkinsWebhookController {
+
+    private static final String TOKEN_HEADER = "X-Jenkins-Webhook-Token";
+
+    private final JenkinsWebhookService jenkinsWebhookService;
+
+    @PostMapping
+    public ResponseEntity<Map<String, Object>> receiveNotification(
+            @RequestHeader(value = TOKEN_HEADER, required = false) String token,
+            @RequestBody JsonNode payload) {
+        if (!jenkinsWebhookService.isEnabled()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+        if (!jenkinsWebhookService.isAuthorized(token)) {
+            log.warn("Rejected Jenkins webhook call with missing or invalid token");
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", "Invalid webhook token");
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
+        }
+
+        try {
+            Map<String, Object> result = jenkinsWebhookService.handleNotification(payload);
+            log.info("Jenkins webhook for job {}: {}", result.get("jobName"), result);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(result);
+        }
+        catch (Exception e) {
+            log.error("Error handling Jenkins webhook: {}", e.getMessage(), e);
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", "Error handling notification: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    @GetMapping("/status")
+    @PreAuthorize(value = "@amsHelper.hasGlobalPermission(new String[]{'automation-dashboard.read'," +
+            "'automation-dashboard.write','automation-dashboard.admin'})")
+    public ResponseEntity<Map<String, Object>> getWebhookStatus() {
+        return ResponseEntity.ok(jenkinsWebhookService.getStatus());
+    }
+}
@@ -11,7 +11,9 @@ import com.qa.automation.model.SaveTestCaseRequest;
 import com.qa.automation.model.TestCaseMappingRequest;
 import com.qa.automation.model.Tester;
 import com.qa.automation.service.JiraIntegrationService;
+import com.qa.automation.service.JiraSprintCacheService;
 import com.qa.automation.service.ManualPageService;
+import com.qa.automation.service.QTestIndexService;
 import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
@@ -27,6 +29,8 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 @RestController
 @RequestMapping("/api/manual-page")
@@ -42,6 +46,10 @@ public class ManualPageController {
 
     private final JiraIntegrationService jiraIntegrationService;
 
+    private final QTestIndexService qTestIndexService;
+
+    private final JiraSprintCacheService jiraSprintCacheService;
+
     @GetMapping("/sprints")
     @PreAuthorize(value = "@amsHelper.hasGlobalPermission(new String[]{'automation-dashboard.read'," +
             "'automation-dashboard.write','automation-dashboard.admin'})")
@@ -59,18 +67,36 @@ public class ManualPageController {
         }
     }
 
+    @GetMapping("/sprints/cache/status")
+    @PreAuthorize(value = "@amsHelper.hasGlobalPermission(new String[]{'automation-dashboard.read'," +
+            "'automation-dashboard.write','automation-dashboard.admin'})")
+    public ResponseEntity<Map<String, Object>> getSprintCacheStatus() {
+        return ResponseEntity.ok(jiraSprintCacheService.getStatus());
+    }
+
+    @PostMapping("/sprints/cache/invalidate")
+    @PreAuthorize(value = "@amsHelper.hasGlobalPermission(new String[]{'automation-dashboard.write','automation-dashboard.admin'})")
+    public ResponseEntity<Map<String, Object>> invalidateSprintCache(
+            @RequestParam(required = false) String jiraProjectKey,
+            @RequestParam(required = false) String jiraBoardId) {
+        logger.info("Invalidating sprint cache (Project: {}, Board: {})", jiraProjectKey, jiraBoardId);
+        int cleared = jiraSprintCacheService.invalidate(jiraProjectKey, jiraBoardId);
+        return ResponseEntity.ok(Map.of("invalidated", cleared));
+    }
+
     @PostMapping("/sprints/{sprintId}/sync")
     @PreAuthorize(value = "@amsHelper.hasGlobalPermission(new String[]{'automation-dashboard.read'," +
             "'automation-dashboard.write','automation-dashboard.admin'})")
     public ResponseEntity<List<JiraIssueDto>> syncSprintIssues(
             @PathVariable String sprintId,
             @RequestParam(required = false) String jiraProjectKey,
-            @RequestParam(required = false) String jiraBoardId) {
+            @RequestParam(required = false) String jiraBoardId,
+            @RequestParam(defaultValue = "false") boolean incremental) {
         try {
-            logger.info("Syncing issues for sprint: {} (Project: {}, Board: {})",
-                    sprintId, jiraProjectKey, jiraBoardId);
+            logger.info("Syncing issues for sprint: {} (Project: {}, Board: {}, Incremental: {})",
+                    sprintId, jiraProjectKey, jiraBoardId, incremental);
             List<JiraIssueDto> issues = manualPageService.fetchAndSyncSprintIssues(
-                    sprintId, jiraProjectKey, jiraBoardId);
+                    sprintId, jiraProjectKey, jiraBoardId, incremental);
             return ResponseEntity.ok(issues);
         }
         catch (Exception e) {
@@ -172,6 +198,54 @@ public class ManualPageController {
         return ResponseEntity.ok(searchResults);
     }
 
+    @GetMapping("/reactive/sprints")
+    @PreAuthorize(value = "@amsHelper.hasGlobalPermission(new String[]{'automation-dashboard.read'," +
+            "'automation-dashboard.write','automation-dashboard.admin'})")
+    public Mono<ResponseEntity<List<Map<String, Object>>>> getAvailableSprintsReactive(
+            @RequestParam(required = false) String jiraProjectKey,
+            @RequestParam(required = false) String jiraBoardId) {
+        logger.info("Fetching available sprints non-blocking (Project: {}, Board: {})", jiraProjectKey, jiraBoardId);
+        return jiraSprintCacheService.getSprintsReactive(jiraProjectKey, jiraBoardId)
+                .map(ResponseEntity::ok)
+                .onErrorResume(e -> {
+                    logger.error("Error fetching sprints: {}", e.getMessage(), e);
+                    return Mono.just(ResponseEntity.internalServerError().build());
+                });
+    }
+
+    @PostMapping("/reactive/sprints/{sprintId}/sync")
+    @PreAuthorize(value = "@amsHelper.hasGlobalPermission(new String[]{'automation-dashboard.read'," +
+            "'automation-dashboard.write','automation-dashboard.admin'})")
+    public Mono<ResponseEntity<List<JiraIssueDto>>> syncSprintIssuesReactive(
+            @PathVariable String sprintId,
+            @RequestParam(required = false) String jiraProjectKey,
+            @RequestParam(required = false) String jiraBoardId) {
+        logger.info("Syncing issues non-blocking for sprint: {} (Project: {}, Board: {})",
+                sprintId, jiraProjectKey, jiraBoardId);
+        return jiraIntegrationService.streamIssuesFromSprint(sprintId, jiraProjectKey, jiraBoardId)
+                // JPA writes block, so they run on the bounded elastic pool rather than an event loop thread
+                .publishOn(Schedulers.boundedElastic())
+                .concatMapIterable(page -> manualPageService.syncSprintIssues(sprintId, page))
+                .collectList()
+                .map(ResponseEntity::ok)
+                .onErrorResume(e -> {
+                    logger.error("Error syncing sprint {}: {}", sprintId, e.getMessage(), e);
+                    return Mono.just(ResponseEntity.internalServerError().build());
+                });
+    }
+
+    @PostMapping("/reactive/global-keyword-search")
+    @PreAuthorize(value = "@amsHelper.hasGlobalPermission(new String[]{'automation-dashboard.read'," +
+            "'automation-dashboard.write','automation-dashboard.admin'})")
+    public Mono<ResponseEntity<Map<String, Object>>> globalKeywordSearchReactive(
+            @RequestBody GlobalKeywordSearchRequest request) {
+        logger.info("Performing non-blocking global keyword search for '{}' in project: {} sprint: {}",
+                request.getKeyword(), request.getJiraProjectKey(), request.getSprintId());
+        return jiraIntegrationService.searchKeywordGloballyReactive(
+                        request.getKeyword(), request.getJiraProjectKey(), request.getSprintId())
+                .map(ResponseEntity::ok);
+    }
+
     @GetMapping("/sprints/{sprintId}/statistics")
     @PreAuthorize(value = "@amsHelper.hasGlobalPermission(new String[]{'automation-dashboard.read'," +
             "'automation-dashboard.write','automation-dashboard.admin'})")
@@ -230,4 +304,18 @@ public class ManualPageController {
             return ResponseEntity.ok(response);
         }
     }
+
+    @GetMapping("/qtest-index/status")
+    @PreAuthorize(value = "@amsHelper.hasGlobalPermission(new String[]{'automation-dashboard.read'," +
+            "'automation-dashboard.write','automation-dashboard.admin'})")
+    public ResponseEntity<Map<String, Object>> getQTestIndexStatus() {
+        return ResponseEntity.ok(qTestIndexService.getStatus());
+    }
+
+    @PostMapping("/qtest-index/refresh")
+    @PreAuthorize(value = "@amsHelper.hasGlobalPermission(new String[]{'automation-dashboard.write','automation-dashboard.admin'})")
+    public ResponseEntity<Map<String, Object>> refreshQTestIndex(@RequestParam(defaultValue = "false") boolean full) {
+        logger.info("Refreshing qTest index (full: {})", full);
+        return ResponseEntity.ok(qTestIndexService.refresh(full));
+    }
 }
@@ -0,0 +1,18 @@
+package com.qa.automation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A test result recognised in a console log line
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConsoleTestMatch {
+    private String className;
+    private String testName;
+    private String status; // PASSED, FAILED, SKIPPED
+    private String pattern;
+}
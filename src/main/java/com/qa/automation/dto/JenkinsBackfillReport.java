@@ -0,0 +1,26 @@
+package com.qa.automation.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Progress of a Jenkins build history backfill run
+ */
+@Data
+@NoArgsConstructor
+public class JenkinsBackfillReport {
+    private LocalDateTime startedAt = LocalDateTime.now();
+    private LocalDateTime finishedAt;
+    private int days;
+    private volatile boolean running;
+    private volatile String currentJob;
+    private volatile int totalJobs;
+    private volatile int completedJobs;
+    private volatile int skippedJobs;
+    private volatile int buildsIngested;
+    private volatile int buildsFailed;
+    private List<String> failedJobNames = new CopyOnWriteArrayList<>();
+}
@@ -0,0 +1,34 @@
+package com.qa.automation.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The build fields the sync needs: number, result, timestamp and url
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class JenkinsBuildInfo {
+    private int number;
+    private String result;
+    private long timestamp;
+    private String url;
+
+    /**
+     * Read a build node as returned by Jenkins' api/json, e.g. lastCompletedBuild[number,result,timestamp,url]
+     */
+    public static JenkinsBuildInfo fromJson(JsonNode build) {
+        if (build == null || build.isNull() || !build.has("number")) {
+            return null;
+        }
+        JsonNode result = build.get("result");
+        return new JenkinsBuildInfo(
+                build.get("number").asInt(),
+                result != null && !result.isNull() ? result.asText() : "IN_PROGRESS",
+                build.path("timestamp").asLong(),
+                build.path("url").asText());
+    }
+}
@@ -0,0 +1,17 @@
+package com.qa.automation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of streaming part of a build's console log; nextOffset is where a later scan should resume
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JenkinsConsoleScanResult {
+    private long nextOffset;
+    private boolean moreData;
+    private int matchedLines;
+}
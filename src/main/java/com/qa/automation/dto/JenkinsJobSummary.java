@@ -0,0 +1,17 @@
+package com.qa.automation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A job found by tree discovery; fullName includes any parent folders, e.g. "folder/job"
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class JenkinsJobSummary {
+    private String fullName;
+    private String url;
+    private JenkinsBuildInfo lastCompletedBuild;
+}
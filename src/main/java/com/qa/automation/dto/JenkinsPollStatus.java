@@ -0,0 +1,22 @@
+package com.qa.automation.dto;
+
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Background poller schedule for a single Jenkins job
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JenkinsPollStatus {
+    private String jobName;
+    private String jobFrequency;
+    private long intervalSeconds;
+    private Instant nextDueAt;
+    private Instant lastPolledAt;
+    private JenkinsSyncOutcome lastOutcome;
+    private boolean inFlight;
+}
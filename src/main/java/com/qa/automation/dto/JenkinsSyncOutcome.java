@@ -0,0 +1,10 @@
+package com.qa.automation.dto;
+
+/**
+ * Result of syncing a single Jenkins job
+ */
+public enum JenkinsSyncOutcome {
+    SYNCED,
+    SKIPPED,
+    FAILED
+}
@@ -0,0 +1,37 @@
+package com.qa.automation.dto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Aggregate outcome of a full Jenkins sync run
+ */
+@Data
+@NoArgsConstructor
+public class JenkinsSyncReport {
+    private LocalDateTime startedAt = LocalDateTime.now();
+    private int totalJobs;
+    private int syncedJobs;
+    private int skippedJobs;
+    private int failedJobs;
+    private List<String> failedJobNames = new ArrayList<>();
+    private long wallTimeMs;
+
+    public void record(String jobName, JenkinsSyncOutcome outcome) {
+        switch (outcome) {
+            case SYNCED:
+                syncedJobs++;
+                break;
+            case SKIPPED:
+                skippedJobs++;
+                break;
+            default:
+                failedJobs++;
+                failedJobNames.add(jobName);
+                break;
+        }
+    }
+}
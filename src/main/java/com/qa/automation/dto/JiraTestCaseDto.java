@@ -38,6 +38,9 @@ public class JiraTestCaseDto {
     private Long manualTesterId;
     private String manualTesterName;
 
+    // When the qTest link was added, taken from the Jira changelog entry it was read from
+    private LocalDateTime linkedAt;
+
     public JiraTestCaseDto(String qtestTitle) {
         this.qtestTitle = qtestTitle;
         this.canBeAutomated = false;
@@ -0,0 +1,20 @@
+package com.qa.automation.exception;
+
+import lombok.Getter;
+
+/**
+ * Thrown instead of calling an upstream (Jenkins, Jira, qTest) whose guard refused the call:
+ * rate limited, bulkhead full or circuit open
+ */
+@Getter
+public class UpstreamRejectedException extends RuntimeException {
+
+    private final String upstream;
+    private final String reason;
+
+    public UpstreamRejectedException(String upstream, String reason) {
+        super("Call to " + upstream + " rejected: " + reason);
+        this.upstream = upstream;
+        this.reason = reason;
+    }
+}
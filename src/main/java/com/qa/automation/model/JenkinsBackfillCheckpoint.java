@@ -0,0 +1,55 @@
+package com.qa.automation.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.Data;
+
+/**
+ * Per-job progress of a build history backfill, so an interrupted run can resume and finished jobs are skipped
+ */
+@Entity
+@Table(name = "jenkins_backfill_checkpoint")
+@Data
+public class JenkinsBackfillCheckpoint {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_name", nullable = false, unique = true)
+    private String jobName;
+
+    // Oldest build the backfill has walked back to
+    @Column(name = "low_water_build")
+    private Integer lowWaterBuild;
+
+    // How far back in time the last run reached for
+    @Column(name = "cutoff")
+    private LocalDateTime cutoff;
+
+    @Column(name = "completed", nullable = false)
+    private boolean completed;
+
+    @Column(name = "builds_ingested")
+    private Integer buildsIngested;
+
+    // Comma-separated builds whose result row was stored but whose test cases could not be extracted
+    @Column(name = "failed_builds", columnDefinition = "TEXT")
+    private String failedBuilds;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        updatedAt = LocalDateTime.now();
+    }
+}
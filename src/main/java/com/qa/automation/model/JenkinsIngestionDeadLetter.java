@@ -0,0 +1,44 @@
+package com.qa.automation.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.Data;
+
+/**
+ * Ingestion task that kept failing after every retry, parked for inspection or a manual requeue
+ */
+@Entity
+@Table(name = "jenkins_ingestion_dead_letters")
+@Data
+public class JenkinsIngestionDeadLetter {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "task_id")
+    private Long taskId;
+
+    @Column(name = "job_name", nullable = false)
+    private String jobName;
+
+    @Column(name = "build_number")
+    private Integer buildNumber;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = 2000)
+    private String lastError;
+
+    @Column(name = "first_queued_at")
+    private LocalDateTime firstQueuedAt;
+
+    @Column(name = "failed_at")
+    private LocalDateTime failedAt;
+}
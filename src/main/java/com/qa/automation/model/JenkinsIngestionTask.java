@@ -0,0 +1,87 @@
+package com.qa.automation.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import lombok.Data;
+
+/**
+ * Durable "sync job X build N" work item. Rows are claimed by queue workers and deleted once ingested;
+ * a null build number means the job's last completed build.
+ */
+@Entity
+@Table(name = "jenkins_ingestion_tasks",
+        indexes = @Index(name = "idx_ingestion_task_claim", columnList = "status, next_attempt_at"),
+        uniqueConstraints = @UniqueConstraint(name = "uk_ingestion_task_pending", columnNames = "pending_key"))
+@Data
+public class JenkinsIngestionTask {
+
+    public static final String STATUS_PENDING = "PENDING";
+    public static final String STATUS_RUNNING = "RUNNING";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_name", nullable = false)
+    private String jobName;
+
+    @Column(name = "build_number")
+    private Integer buildNumber;
+
+    @Column(name = "status", nullable = false, length = 16)
+    private String status = STATUS_PENDING;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    // Job and build of a PENDING task, null otherwise; the unique key allows one pending task per build
+    @Column(name = "pending_key", length = 300)
+    private String pendingKey;
+
+    // Earliest time a worker may claim the task; pushed forward by retry backoff
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    // Worker holding the task and when its claim expires, so tasks of a crashed worker are picked up again
+    @Column(name = "locked_by")
+    private String lockedBy;
+
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
+    @Column(name = "last_error", length = 2000)
+    private String lastError;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = createdAt;
+        if (nextAttemptAt == null) {
+            nextAttemptAt = createdAt;
+        }
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    public static String pendingKey(String jobName, Integer buildNumber) {
+        return jobName + "#" + (buildNumber != null ? buildNumber : "latest");
+    }
+}
@@ -0,0 +1,53 @@
+package com.qa.automation.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.Data;
+
+/**
+ * Per-job high-water mark used by incremental Jenkins sync
+ */
+@Entity
+@Table(name = "jenkins_job_sync_state")
+@Data
+public class JenkinsJobSyncState {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_name", nullable = false, unique = true)
+    private String jobName;
+
+    // Last completed build number that was fully ingested
+    @Column(name = "last_build_number")
+    private Integer lastBuildNumber;
+
+    // SHA-256 of the individual test cases stored for that build
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    // Build whose console log was last scanned and the byte offset the scan reached
+    @Column(name = "console_build_number")
+    private Integer consoleBuildNumber;
+
+    @Column(name = "console_offset")
+    private Long consoleOffset;
+
+    @Column(name = "last_synced_at")
+    private LocalDateTime lastSyncedAt;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
@@ -7,7 +7,8 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "jenkins_results")
+@Table(name = "jenkins_results", uniqueConstraints = @UniqueConstraint(name = "uk_jenkins_result_build",
+        columnNames = {"job_name", "build_number"}))
 @Data
 public class JenkinsResult {
 
@@ -93,26 +94,29 @@ public class JenkinsResult {
     }
 
     public void inferJobFrequency() {
+        this.jobFrequency = inferJobFrequency(jobName);
+    }
+
+    public static String inferJobFrequency(String jobName) {
         if (jobName == null) {
-            this.jobFrequency = "Unknown";
-            return;
+            return "Unknown";
         }
 
         String lowerJobName = jobName.toLowerCase();
         if (lowerJobName.contains("hourly")) {
-            this.jobFrequency = "Hourly";
+            return "Hourly";
         } else if (lowerJobName.contains("daily") || lowerJobName.contains("nightly")) {
-            this.jobFrequency = "Daily";
+            return "Daily";
         } else if (lowerJobName.contains("weekly")) {
-            this.jobFrequency = "Weekly";
+            return "Weekly";
         } else if (lowerJobName.contains("monthly")) {
-            this.jobFrequency = "Monthly";
+            return "Monthly";
         } else if (lowerJobName.contains("manual") || lowerJobName.contains("ondemand") || lowerJobName.contains("trigger")) {
-            this.jobFrequency = "On Demand";
+            return "On Demand";
         } else if (lowerJobName.contains("continuous") || lowerJobName.contains("ci") || lowerJobName.contains("commit")) {
-            this.jobFrequency = "Continuous";
+            return "Continuous";
         } else {
-            this.jobFrequency = "Unknown";
+            return "Unknown";
         }
     }
 
@@ -0,0 +1,46 @@
+package com.qa.automation.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.Data;
+
+/**
+ * Per-sprint cursor used by incremental Jira sprint sync
+ */
+@Entity
+@Table(name = "jira_sprint_sync_state")
+@Data
+public class JiraSprintSyncState {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "sprint_id", nullable = false, unique = true)
+    private String sprintId;
+
+    @Column(name = "project_key")
+    private String projectKey;
+
+    // Start time of the last sync that received every page; the next incremental sync asks for issues updated since
+    @Column(name = "last_synced_at")
+    private LocalDateTime lastSyncedAt;
+
+    // Issues returned by that sync (the whole sprint for a full sync, only changed issues for an incremental one)
+    @Column(name = "last_issue_count")
+    private Integer lastIssueCount;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
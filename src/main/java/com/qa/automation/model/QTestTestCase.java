@@ -0,0 +1,50 @@
+package com.qa.automation.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.Data;
+
+/**
+ * Local copy of a qTest test case, kept by QTestIndexService so lookups by TC key or title
+ * do not need a qTest round trip
+ */
+@Entity
+@Table(name = "qtest_test_cases",
+        indexes = @Index(name = "idx_qtest_test_case_pid", columnList = "pid"))
+@Data
+public class QTestTestCase {
+
+    // qTest's own numeric test case id
+    @Id
+    private Long id;
+
+    // Display key, e.g. TC-473
+    @Column(name = "pid", length = 32)
+    private String pid;
+
+    @Column(name = "name", length = 1000)
+    private String name;
+
+    @Column(name = "assignee")
+    private String assignee;
+
+    @Column(name = "assignee_display_name")
+    private String assigneeDisplayName;
+
+    @Column(name = "priority")
+    private String priority;
+
+    @Column(name = "automation_status")
+    private String automationStatus;
+
+    // qTest last_modified_date in UTC; the newest one is the cursor for incremental refreshes
+    @Column(name = "last_modified_date")
+    private LocalDateTime lastModifiedDate;
+
+    @Column(name = "indexed_at")
+    private LocalDateTime indexedAt;
+}
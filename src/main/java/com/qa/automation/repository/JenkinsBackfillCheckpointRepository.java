@@ -0,0 +1,12 @@
+package com.qa.automation.repository;
+
+import com.qa.automation.model.JenkinsBackfillCheckpoint;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JenkinsBackfillCheckpointRepository extends JpaRepository<JenkinsBackfillCheckpoint, Long> {
+
+    Optional<JenkinsBackfillCheckpoint> findByJobName(String jobName);
+}
@@ -0,0 +1,12 @@
+package com.qa.automation.repository;
+
+import com.qa.automation.model.JenkinsIngestionDeadLetter;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JenkinsIngestionDeadLetterRepository extends JpaRepository<JenkinsIngestionDeadLetter, Long> {
+
+    List<JenkinsIngestionDeadLetter> findTop100ByOrderByFailedAtDesc();
+}
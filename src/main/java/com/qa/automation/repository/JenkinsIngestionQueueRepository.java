@@ -0,0 +1,147 @@
+package com.qa.automation.repository;
+
+import com.qa.automation.model.JenkinsIngestionTask;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Enqueue, claim and completion path of the jenkins_ingestion_tasks queue. Claims use SELECT ... FOR UPDATE SKIP LOCKED
+ * (MariaDB 10.6+ / MySQL 8), so several workers or application instances can drain the table without
+ * blocking on, or double-claiming, each other's rows. A pending task holds its job and build in the unique
+ * pending_key column, so concurrent enqueues of the same build collapse into one row.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JenkinsIngestionQueueRepository {
+
+    private static final String CLAIM_SELECT = "SELECT id, job_name, build_number, attempts, created_at "
+            + "FROM jenkins_ingestion_tasks WHERE status = 'PENDING' AND next_attempt_at <= ? "
+            + "ORDER BY next_attempt_at, id LIMIT ? FOR UPDATE SKIP LOCKED";
+
+    private static final RowMapper<JenkinsIngestionTask> CLAIM_ROW_MAPPER = (rs, rowNum) -> {
+        JenkinsIngestionTask task = new JenkinsIngestionTask();
+        task.setId(rs.getLong("id"));
+        task.setJobName(rs.getString("job_name"));
+        int buildNumber = rs.getInt("build_number");
+        task.setBuildNumber(rs.wasNull() ? null : buildNumber);
+        task.setAttempts(rs.getInt("attempts"));
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        task.setCreatedAt(createdAt != null ? createdAt.toLocalDateTime() : null);
+        task.setStatus(JenkinsIngestionTask.STATUS_RUNNING);
+        return task;
+    };
+
+    private static final String ENQUEUE_SQL = "INSERT INTO jenkins_ingestion_tasks "
+            + "(job_name, build_number, status, attempts, pending_key, next_attempt_at, created_at, updated_at) "
+            + "VALUES (?, ?, 'PENDING', 0, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE id = LAST_INSERT_ID(id)";
+
+    private static final String PENDING_KEY_EXPRESSION = "CONCAT(job_name, '#', COALESCE(CAST(build_number AS CHAR), 'latest'))";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Insert a pending task, or return the id of the pending task that already exists for the same build.
+     * One atomic statement, so webhook, poller and worker threads can enqueue the same build concurrently.
+     */
+    public Long enqueue(String jobName, Integer buildNumber) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(ENQUEUE_SQL, Statement.RETURN_GENERATED_KEYS);
+            statement.setString(1, jobName);
+            statement.setObject(2, buildNumber, Types.INTEGER);
+            statement.setString(3, JenkinsIngestionTask.pendingKey(jobName, buildNumber));
+            statement.setTimestamp(4, now);
+            statement.setTimestamp(5, now);
+            statement.setTimestamp(6, now);
+            return statement;
+        }, keyHolder);
+        Number id = keyHolder.getKey();
+        return id != null ? id.longValue() : null;
+    }
+
+    /**
+     * Claim up to limit due tasks for a worker. Attempts are counted at claim time, so a task that keeps
+     * killing its worker still runs out of attempts.
+     */
+    @Transactional
+    public List<JenkinsIngestionTask> claim(String workerId, int limit, LocalDateTime leaseUntil) {
+        LocalDateTime now = LocalDateTime.now();
+        List<JenkinsIngestionTask> tasks = jdbcTemplate.query(CLAIM_SELECT, CLAIM_ROW_MAPPER, Timestamp.valueOf(now), limit);
+        if (tasks.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        String ids = tasks.stream().map(task -> String.valueOf(task.getId())).collect(Collectors.joining(","));
+        // Clearing pending_key lets the same build be queued again while this attempt runs
+        jdbcTemplate.update("UPDATE jenkins_ingestion_tasks SET status = 'RUNNING', attempts = attempts + 1, pending_key = NULL, "
+                        + "locked_by = ?, lease_until = ?, updated_at = ? WHERE id IN (" + ids + ")",
+                workerId, Timestamp.valueOf(leaseUntil), Timestamp.valueOf(now));
+        tasks.forEach(task -> task.setAttempts(task.getAttempts() + 1));
+        return tasks;
+    }
+
+    /**
+     * Remove a task that was ingested successfully
+     */
+    public void complete(Long taskId) {
+        jdbcTemplate.update("DELETE FROM jenkins_ingestion_tasks WHERE id = ?", taskId);
+    }
+
+    /**
+     * Return a failed task to the queue, not claimable before nextAttemptAt. If the same build was queued again
+     * while this attempt ran, the failed task is dropped in favour of that pending one.
+     */
+    @Transactional
+    public void retryLater(JenkinsIngestionTask task, LocalDateTime nextAttemptAt, String error) {
+        int updated = jdbcTemplate.update("UPDATE IGNORE jenkins_ingestion_tasks SET status = 'PENDING', pending_key = ?, "
+                        + "locked_by = NULL, lease_until = NULL, next_attempt_at = ?, last_error = ?, updated_at = ? WHERE id = ?",
+                JenkinsIngestionTask.pendingKey(task.getJobName(), task.getBuildNumber()), Timestamp.valueOf(nextAttemptAt),
+                error, Timestamp.valueOf(LocalDateTime.now()), task.getId());
+        if (updated == 0) {
+            complete(task.getId());
+        }
+    }
+
+    /**
+     * Move a task that exhausted its attempts to the dead-letter table
+     */
+    @Transactional
+    public void deadLetter(JenkinsIngestionTask task, String error) {
+        jdbcTemplate.update("INSERT INTO jenkins_ingestion_dead_letters "
+                        + "(task_id, job_name, build_number, attempts, last_error, first_queued_at, failed_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?)",
+                task.getId(), task.getJobName(), task.getBuildNumber(), task.getAttempts(), error,
+                task.getCreatedAt() != null ? Timestamp.valueOf(task.getCreatedAt()) : null,
+                Timestamp.valueOf(LocalDateTime.now()));
+        complete(task.getId());
+    }
+
+    /**
+     * Put tasks whose worker lease expired (crashed or hung worker) back in the queue. An expired task whose build
+     * is already pending again is deleted instead.
+     */
+    @Transactional
+    public int releaseExpiredLeases() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int released = jdbcTemplate.update("UPDATE IGNORE jenkins_ingestion_tasks SET status = 'PENDING', pending_key = "
+                        + PENDING_KEY_EXPRESSION + ", locked_by = NULL, lease_until = NULL, last_error = 'Worker lease expired', "
+                        + "updated_at = ? WHERE status = 'RUNNING' AND lease_until < ?",
+                now, now);
+        jdbcTemplate.update("DELETE FROM jenkins_ingestion_tasks WHERE status = 'RUNNING' AND lease_until < ?", now);
+        return released;
+    }
+}
@@ -0,0 +1,14 @@
+package com.qa.automation.repository;
+
+import com.qa.automation.model.JenkinsIngestionTask;
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JenkinsIngestionTaskRepository extends JpaRepository<JenkinsIngestionTask, Long> {
+
+    long countByStatus(String status);
+
+    long countByStatusAndNextAttemptAtLessThanEqual(String status, LocalDateTime time);
+}
@@ -0,0 +1,18 @@
+package com.qa.automation.repository;
+
+import com.qa.automation.model.JenkinsJobSyncState;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JenkinsJobSyncStateRepository extends JpaRepository<JenkinsJobSyncState, Long> {
+
+    Optional<JenkinsJobSyncState> findByJobName(String jobName);
+
+    @Query("SELECT s.jobName FROM JenkinsJobSyncState s")
+    List<String> findAllJobNames();
+
+}
@@ -11,26 +11,34 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface JenkinsResultRepository extends JpaRepository<JenkinsResult, Long> {
 
+    // Latest build per job by build timestamp, so backfilled history inserted later never counts as latest
+    String LATEST_RESULT_IDS = "(SELECT MAX(jr2.id) FROM JenkinsResult jr2 WHERE jr2.buildTimestamp = " +
+            "(SELECT MAX(jr3.buildTimestamp) FROM JenkinsResult jr3 WHERE jr3.jobName = jr2.jobName) " +
+            "GROUP BY jr2.jobName)";
+
     @Query("SELECT jr FROM JenkinsResult jr WHERE jr.jobName = :jobName ORDER BY jr.buildTimestamp DESC")
     List<JenkinsResult> findLatestByJobName(@Param("jobName") String jobName);
 
     @Query("SELECT jr FROM JenkinsResult jr WHERE jr.id IN " +
-            "(SELECT MAX(jr2.id) FROM JenkinsResult jr2 GROUP BY jr2.jobName) " +
+            LATEST_RESULT_IDS + " " +
             "ORDER BY jr.jobName")
     List<JenkinsResult> findLatestResultsForAllJobs();
 
     Optional<JenkinsResult> findByJobNameAndBuildNumber(String jobName, String buildNumber);
 
+    @Query("SELECT jr.buildNumber FROM JenkinsResult jr WHERE jr.jobName = :jobName")
+    List<String> findBuildNumbersByJobName(@Param("jobName") String jobName);
+
     // Get total test counts
     @Query("SELECT COALESCE(SUM(jr.totalTests), 0) FROM JenkinsResult jr WHERE jr.id IN " +
-            "(SELECT MAX(jr2.id) FROM JenkinsResult jr2 GROUP BY jr2.jobName)")
+            LATEST_RESULT_IDS)
     Long getTotalTestsFromLatestBuilds();
 
     @Query("SELECT COALESCE(SUM(jr.passedTests), 0) FROM JenkinsResult jr WHERE jr.id IN " +
-            "(SELECT MAX(jr2.id) FROM JenkinsResult jr2 GROUP BY jr2.jobName)")
+            LATEST_RESULT_IDS)
     Long getTotalPassedTestsFromLatestBuilds();
 
     @Query("SELECT COALESCE(SUM(jr.failedTests), 0) FROM JenkinsResult jr WHERE jr.id IN " +
-            "(SELECT MAX(jr2.id) FROM JenkinsResult jr2 GROUP BY jr2.jobName)")
+            LATEST_RESULT_IDS)
     Long getTotalFailedTestsFromLatestBuilds();
 }
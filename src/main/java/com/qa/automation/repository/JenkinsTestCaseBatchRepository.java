@@ -0,0 +1,76 @@
+package com.qa.automation.repository;
+
+import com.qa.automation.model.JenkinsTestCase;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Bulk write path for jenkins_test_cases. The entity uses IDENTITY ids, which disables Hibernate JDBC batching,
+ * so large builds are written here with chunked multi-row INSERT statements instead of one INSERT per row.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JenkinsTestCaseBatchRepository {
+
+    private static final String INSERT_PREFIX = "INSERT INTO jenkins_test_cases "
+            + "(test_name, class_name, status, duration, error_message, stack_trace, jenkins_result_id, created_at) VALUES ";
+    private static final String ROW_PLACEHOLDERS = "(?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${jenkins.ingest.insert-batch-size:500}")
+    private int insertBatchSize;
+
+    /**
+     * Delete every test case of a Jenkins result in a single statement
+     */
+    public int deleteByJenkinsResultId(Long jenkinsResultId) {
+        return jdbcTemplate.update("DELETE FROM jenkins_test_cases WHERE jenkins_result_id = ?", jenkinsResultId);
+    }
+
+    /**
+     * Insert test cases for a Jenkins result using one multi-row INSERT per chunk
+     */
+    public int insertAll(Long jenkinsResultId, List<JenkinsTestCase> testCases) {
+        int chunkSize = Math.max(1, insertBatchSize);
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        int inserted = 0;
+
+        for (int from = 0; from < testCases.size(); from += chunkSize) {
+            List<JenkinsTestCase> chunk = testCases.subList(from, Math.min(from + chunkSize, testCases.size()));
+
+            StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+            List<Object> params = new ArrayList<>(chunk.size() * 8);
+            for (int i = 0; i < chunk.size(); i++) {
+                JenkinsTestCase testCase = chunk.get(i);
+                sql.append(i == 0 ? "" : ", ").append(ROW_PLACEHOLDERS);
+                params.add(testCase.getTestName());
+                params.add(testCase.getClassName());
+                params.add(testCase.getStatus());
+                params.add(testCase.getDuration());
+                params.add(testCase.getErrorMessage());
+                params.add(testCase.getStackTrace());
+                params.add(jenkinsResultId);
+                params.add(createdAt);
+            }
+            inserted += jdbcTemplate.update(sql.toString(), params.toArray());
+        }
+        return inserted;
+    }
+
+    /**
+     * Replace all test cases of a Jenkins result atomically: one DELETE followed by chunked INSERTs
+     */
+    @Transactional
+    public int replaceForResult(Long jenkinsResultId, List<JenkinsTestCase> testCases) {
+        deleteByJenkinsResultId(jenkinsResultId);
+        return testCases.isEmpty() ? 0 : insertAll(jenkinsResultId, testCases);
+    }
+}
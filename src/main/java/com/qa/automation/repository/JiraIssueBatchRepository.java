@@ -0,0 +1,67 @@
+package com.qa.automation.repository;
+
+import com.qa.automation.dto.JiraIssueDto;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Bulk insert path for jira_issues. Like jenkins_test_cases the entity uses IDENTITY ids, which disables
+ * Hibernate insert batching, so new sprint issues are written with chunked multi-row INSERT statements.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JiraIssueBatchRepository {
+
+    private static final String INSERT_PREFIX = "INSERT INTO jira_issues "
+            + "(jira_key, summary, assignee, assignee_display_name, sprint_id, sprint_name, issue_type, status, priority, "
+            + "keyword_count, created_at, updated_at) VALUES ";
+    private static final String ROW_PLACEHOLDERS = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    // A concurrent sync of the same sprint may have inserted the key first; its row is kept
+    private static final String ON_DUPLICATE = " ON DUPLICATE KEY UPDATE jira_key = jira_key";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${jira.sync.insert-batch-size:500}")
+    private int insertBatchSize;
+
+    /**
+     * Insert new issues using one multi-row INSERT per chunk
+     */
+    public int insertAll(List<JiraIssueDto> issues) {
+        int chunkSize = Math.max(1, insertBatchSize);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int inserted = 0;
+
+        for (int from = 0; from < issues.size(); from += chunkSize) {
+            List<JiraIssueDto> chunk = issues.subList(from, Math.min(from + chunkSize, issues.size()));
+
+            StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+            List<Object> params = new ArrayList<>(chunk.size() * 12);
+            for (int i = 0; i < chunk.size(); i++) {
+                JiraIssueDto issue = chunk.get(i);
+                sql.append(i == 0 ? "" : ", ").append(ROW_PLACEHOLDERS);
+                params.add(issue.getJiraKey());
+                params.add(issue.getSummary() != null ? issue.getSummary() : "");
+                params.add(issue.getAssignee());
+                params.add(issue.getAssigneeDisplayName());
+                params.add(issue.getSprintId());
+                params.add(issue.getSprintName());
+                params.add(issue.getIssueType());
+                params.add(issue.getStatus());
+                params.add(issue.getPriority());
+                params.add(0);
+                params.add(now);
+                params.add(now);
+            }
+            sql.append(ON_DUPLICATE);
+            inserted += jdbcTemplate.update(sql.toString(), params.toArray());
+        }
+        return inserted;
+    }
+}
@@ -1,6 +1,7 @@
 package com.qa.automation.repository;
 
 import com.qa.automation.model.JiraIssue;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -18,4 +19,12 @@ public interface JiraIssueRepository extends JpaRepository<JiraIssue, Long> {
     @Query("SELECT DISTINCT ji FROM JiraIssue ji LEFT JOIN FETCH ji.linkedTestCases WHERE ji.sprintId = :sprintId")
     List<JiraIssue> findBySprintIdWithLinkedTestCases(@Param("sprintId") String sprintId);
 
+    // Stored issues among the keys, with their linked test cases fetched in the same query
+    @Query("SELECT DISTINCT ji FROM JiraIssue ji LEFT JOIN FETCH ji.linkedTestCases WHERE ji.jiraKey IN :jiraKeys")
+    List<JiraIssue> findByJiraKeyIn(@Param("jiraKeys") Collection<String> jiraKeys);
+
+    // [jiraKey, qtestTitle] for every stored issue among the keys; qtestTitle is null for issues without links
+    @Query("SELECT ji.jiraKey, jtc.qtestTitle FROM JiraIssue ji LEFT JOIN ji.linkedTestCases jtc WHERE ji.jiraKey IN :jiraKeys")
+    List<Object[]> findLinkedTitlesByJiraKeys(@Param("jiraKeys") Collection<String> jiraKeys);
+
 }
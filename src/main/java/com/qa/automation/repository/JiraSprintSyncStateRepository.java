@@ -0,0 +1,13 @@
+package com.qa.automation.repository;
+
+import com.qa.automation.model.JiraSprintSyncState;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JiraSprintSyncStateRepository extends JpaRepository<JiraSprintSyncState, Long> {
+
+    Optional<JiraSprintSyncState> findBySprintId(String sprintId);
+
+}
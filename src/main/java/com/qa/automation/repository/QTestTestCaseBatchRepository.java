@@ -0,0 +1,67 @@
+package com.qa.automation.repository;
+
+import com.qa.automation.model.QTestTestCase;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Bulk write path for qtest_test_cases. The ids are qTest's own, so saveAll would merge (SELECT, then INSERT
+ * or UPDATE) one row at a time; index pages are written here with chunked multi-row upserts instead.
+ */
+@Repository
+@RequiredArgsConstructor
+public class QTestTestCaseBatchRepository {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private static final String INSERT_PREFIX = "INSERT INTO qtest_test_cases "
+            + "(id, pid, name, assignee, assignee_display_name, priority, automation_status, last_modified_date, indexed_at) VALUES ";
+    private static final String ROW_PLACEHOLDERS = "(?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String ON_DUPLICATE = " ON DUPLICATE KEY UPDATE pid = VALUES(pid), name = VALUES(name), "
+            + "assignee = VALUES(assignee), assignee_display_name = VALUES(assignee_display_name), priority = VALUES(priority), "
+            + "automation_status = VALUES(automation_status), last_modified_date = VALUES(last_modified_date), "
+            + "indexed_at = VALUES(indexed_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Insert or update a page of test cases in one transaction, one multi-row statement per chunk
+     */
+    @Transactional
+    public int upsertAll(List<QTestTestCase> testCases) {
+        int written = 0;
+
+        for (int from = 0; from < testCases.size(); from += CHUNK_SIZE) {
+            List<QTestTestCase> chunk = testCases.subList(from, Math.min(from + CHUNK_SIZE, testCases.size()));
+
+            StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+            List<Object> params = new ArrayList<>(chunk.size() * 9);
+            for (int i = 0; i < chunk.size(); i++) {
+                QTestTestCase testCase = chunk.get(i);
+                sql.append(i == 0 ? "" : ", ").append(ROW_PLACEHOLDERS);
+                params.add(testCase.getId());
+                params.add(testCase.getPid());
+                params.add(testCase.getName());
+                params.add(testCase.getAssignee());
+                params.add(testCase.getAssigneeDisplayName());
+                params.add(testCase.getPriority());
+                params.add(testCase.getAutomationStatus());
+                params.add(toTimestamp(testCase.getLastModifiedDate()));
+                params.add(toTimestamp(testCase.getIndexedAt()));
+            }
+            sql.append(ON_DUPLICATE);
+            written += jdbcTemplate.update(sql.toString(), params.toArray());
+        }
+        return written;
+    }
+
+    private static Timestamp toTimestamp(LocalDateTime value) {
+        return value != null ? Timestamp.valueOf(value) : null;
+    }
+}
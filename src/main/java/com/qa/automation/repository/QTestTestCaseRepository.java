@@ -0,0 +1,15 @@
+package com.qa.automation.repository;
+
+import com.qa.automation.model.QTestTestCase;
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface QTestTestCaseRepository extends JpaRepository<QTestTestCase, Long> {
+
+    @Query("SELECT MAX(t.lastModifiedDate) FROM QTestTestCase t")
+    LocalDateTime findLatestModifiedDate();
+
+}
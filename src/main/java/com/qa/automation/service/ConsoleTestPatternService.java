@@ -0,0 +1,102 @@
+package com.qa.automation.service;
+
+import com.qa.automation.utils.ConsoleTestPattern;
+import com.qa.automation.utils.ConsoleTestPatternEngine;
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+
+/**
+ * Resolves which console test patterns apply to a job and hands out compiled engines, cached per pattern set.
+ * Styles are the built-ins (testng, junit5, cucumber, pytest) or custom ones defined as
+ * jenkins.console.custom.&lt;name&gt;.literals / .regex / .status-regex.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ConsoleTestPatternService {
+
+    private final Environment environment;
+
+    @Value("${jenkins.console.patterns:testng,junit5,cucumber,pytest}")
+    private String defaultPatterns;
+
+    // Per-project overrides keyed by job name prefix, e.g. "mobile/=pytest;web-ui=testng,cucumber"
+    @Value("${jenkins.console.project-patterns:}")
+    private String projectPatterns;
+
+    private final Map<String, String> patternsByJobPrefix = new LinkedHashMap<>();
+    private final Map<String, ConsoleTestPatternEngine> engines = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void loadProjectPatterns() {
+        for (String entry : projectPatterns.split(";")) {
+            int separator = entry.indexOf('=');
+            if (separator > 0) {
+                patternsByJobPrefix.put(entry.substring(0, separator).trim(), entry.substring(separator + 1).trim());
+            }
+        }
+        // Fail fast on misconfiguration rather than on the first console fallback
+        engineFor(defaultPatterns);
+        patternsByJobPrefix.values().forEach(this::engineFor);
+    }
+
+    /**
+     * Compiled engine for a job, using the longest matching job name prefix override or the default pattern set
+     */
+    public ConsoleTestPatternEngine engineForJob(String jobName) {
+        String patterns = defaultPatterns;
+        int longestPrefix = -1;
+        for (Map.Entry<String, String> entry : patternsByJobPrefix.entrySet()) {
+            if (jobName != null && jobName.startsWith(entry.getKey()) && entry.getKey().length() > longestPrefix) {
+                patterns = entry.getValue();
+                longestPrefix = entry.getKey().length();
+            }
+        }
+        return engineFor(patterns);
+    }
+
+    private ConsoleTestPatternEngine engineFor(String patternNames) {
+        String key = Arrays.stream(patternNames.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .collect(Collectors.joining(","));
+        return engines.computeIfAbsent(key, names -> {
+            List<ConsoleTestPattern> patterns = new ArrayList<>();
+            for (String name : names.split(",")) {
+                patterns.add(resolvePattern(name));
+            }
+            log.info("Compiled console test pattern engine: {}", names);
+            return new ConsoleTestPatternEngine(patterns);
+        });
+    }
+
+    private ConsoleTestPattern resolvePattern(String name) {
+        ConsoleTestPattern builtIn = ConsoleTestPattern.builtIn(name);
+        if (builtIn != null) {
+            return builtIn;
+        }
+
+        String prefix = "jenkins.console.custom." + name;
+        String literals = environment.getProperty(prefix + ".literals");
+        String regex = environment.getProperty(prefix + ".regex");
+        if (literals == null || regex == null) {
+            throw new IllegalArgumentException("Unknown console test pattern '" + name + "': define " + prefix +
+                    ".literals and " + prefix + ".regex");
+        }
+        List<String> literalList = Arrays.stream(literals.split(","))
+                .filter(literal -> !literal.isEmpty())
+                .collect(Collectors.toList());
+        return new ConsoleTestPattern(name, literalList, List.of(regex), environment.getProperty(prefix + ".status-regex"));
+    }
+}
@@ -0,0 +1,184 @@
+package com.qa.automation.service;
+
+import com.qa.automation.utils.JenkinsJobPath;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Fetches Jenkins build artifacts as streams. Small responses are handed straight to the reader; large or
+ * unsized ones are spooled to disk through NIO channels so they never sit in the heap, and the spooled
+ * copy is reused when the same artifact of the same (immutable) build is read again.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class JenkinsArtifactService {
+
+    private final RestTemplate jenkinsRestTemplate;
+
+    @Value("${jenkins.url:}")
+    private String jenkinsUrl;
+    @Value("${jenkins.username:}")
+    private String jenkinsUsername;
+    @Value("${jenkins.token:}")
+    private String jenkinsToken;
+    @Value("${jenkins.artifacts.spool-dir:${java.io.tmpdir}/jenkins-artifacts}")
+    private String spoolDir;
+    @Value("${jenkins.artifacts.spool-threshold-bytes:1048576}")
+    private long spoolThresholdBytes;
+    @Value("${jenkins.artifacts.spool-retention-minutes:60}")
+    private long spoolRetentionMinutes;
+
+    @FunctionalInterface
+    public interface ArtifactReader<T> {
+        T read(InputStream artifact) throws IOException;
+    }
+
+    /**
+     * Open an artifact of a build and hand its (decompressed) content to the reader
+     */
+    public <T> T readArtifact(String jobName, String buildNumber, String artifactPath, ArtifactReader<T> reader) throws IOException {
+        Path spooled = spoolPath(jobName, buildNumber, artifactPath);
+        if (Files.isRegularFile(spooled)) {
+            // Completed builds never change, so a spooled copy can be re-parsed without downloading again
+            Files.setLastModifiedTime(spooled, FileTime.from(Instant.now()));
+            return readFile(spooled, artifactPath, reader);
+        }
+
+        String url = jenkinsUrl + JenkinsJobPath.of(jobName) + "/" + buildNumber + "/artifact/" + artifactPath;
+        return jenkinsRestTemplate.execute(url, HttpMethod.GET,
+                // Accept-Encoding is left to the pooled client, which negotiates gzip and decompresses transparently
+                request -> request.getHeaders().putAll(createAuthHeaders()),
+                response -> {
+                    // A body the client did not decode has no usable length, so it is spooled like an unsized one
+                    long contentLength = isGzipEncoded(response) ? -1 : response.getHeaders().getContentLength();
+                    if (contentLength >= 0 && contentLength < spoolThresholdBytes) {
+                        return reader.read(decode(response.getBody(), artifactPath));
+                    }
+                    spool(responseBody(response), spooled);
+                    return readFile(spooled, artifactPath, reader);
+                });
+    }
+
+    /**
+     * Hand the response body of an artifact straight to the reader while it downloads, never spooling it.
+     * Meant for readers that consume the stream sequentially and skip what they do not need, such as a
+     * ZipInputStream over archive.zip. Returning early does not save the download: closing the response
+     * drains the rest of the body so the pooled connection can be reused.
+     */
+    public <T> T streamArtifact(String jobName, String buildNumber, String artifactPath, ArtifactReader<T> reader) throws IOException {
+        String url = jenkinsUrl + JenkinsJobPath.of(jobName) + "/" + buildNumber + "/artifact/" + artifactPath;
+        return jenkinsRestTemplate.execute(url, HttpMethod.GET,
+                request -> request.getHeaders().putAll(createAuthHeaders()),
+                response -> reader.read(decode(new BufferedInputStream(responseBody(response), 64 * 1024), artifactPath)));
+    }
+
+    /**
+     * Remove spooled artifacts that have not been read within the retention window
+     */
+    @Scheduled(fixedDelayString = "${jenkins.artifacts.spool-cleanup-ms:600000}")
+    public void evictExpiredSpoolFiles() {
+        Path root = Paths.get(spoolDir);
+        if (!Files.isDirectory(root)) {
+            return;
+        }
+
+        Instant cutoff = Instant.now().minusSeconds(spoolRetentionMinutes * 60);
+        try (Stream<Path> files = Files.list(root)) {
+            files.filter(Files::isRegularFile).forEach(file -> {
+                try {
+                    if (Files.getLastModifiedTime(file).toInstant().isBefore(cutoff)) {
+                        Files.deleteIfExists(file);
+                    }
+                }
+                catch (IOException e) {
+                    log.warn("Could not evict spooled artifact {}: {}", file, e.getMessage());
+                }
+            });
+        }
+        catch (IOException e) {
+            log.warn("Could not scan artifact spool directory {}: {}", root, e.getMessage());
+        }
+    }
+
+    private void spool(InputStream body, Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+        Path partial = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".part");
+        try (ReadableByteChannel source = Channels.newChannel(body);
+             FileChannel destination = FileChannel.open(partial, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            long position = 0;
+            long transferred;
+            while ((transferred = destination.transferFrom(source, position, 1024 * 1024)) > 0) {
+                position += transferred;
+            }
+            log.debug("Spooled {} bytes to {}", position, target);
+        }
+        catch (IOException e) {
+            Files.deleteIfExists(partial);
+            throw e;
+        }
+        // Publish atomically so a concurrent reader never sees a partially written file
+        Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private <T> T readFile(Path file, String artifactPath, ArtifactReader<T> reader) throws IOException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file), 64 * 1024)) {
+            return reader.read(decode(in, artifactPath));
+        }
+    }
+
+    private InputStream responseBody(ClientHttpResponse response) throws IOException {
+        // Only needed when the client did not decode the response itself
+        return isGzipEncoded(response) ? new GZIPInputStream(response.getBody(), 64 * 1024) : response.getBody();
+    }
+
+    private boolean isGzipEncoded(ClientHttpResponse response) {
+        return "gzip".equalsIgnoreCase(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    private InputStream decode(InputStream in, String artifactPath) throws IOException {
+        // Artifacts archived pre-compressed (e.g. testng-results.xml.gz) are decompressed on the fly
+        return artifactPath.endsWith(".gz") ? new GZIPInputStream(in, 64 * 1024) : in;
+    }
+
+    private Path spoolPath(String jobName, String buildNumber, String artifactPath) {
+        String key = DigestUtils.sha256Hex(jobName + "#" + buildNumber + "#" + artifactPath);
+        return Paths.get(spoolDir).resolve(key + ".artifact");
+    }
+
+    private HttpHeaders createAuthHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        if (jenkinsUsername != null && !jenkinsUsername.isEmpty() &&
+                jenkinsToken != null && !jenkinsToken.isEmpty()) {
+            String auth = jenkinsUsername + ":" + jenkinsToken;
+            String encodedAuth = Base64.getEncoder().encodeToString(auth.getBytes(StandardCharsets.UTF_8));
+            headers.set("Authorization", "Basic " + encodedAuth);
+        }
+        return headers;
+    }
+}
@@ -0,0 +1,232 @@
+package com.qa.automation.service;
+
+import com.qa.automation.dto.JenkinsBackfillReport;
+import com.qa.automation.dto.JenkinsBuildInfo;
+import com.qa.automation.dto.JenkinsJobSummary;
+import com.qa.automation.dto.JenkinsSyncOutcome;
+import com.qa.automation.model.JenkinsBackfillCheckpoint;
+import com.qa.automation.repository.JenkinsBackfillCheckpointRepository;
+import com.qa.automation.repository.JenkinsResultRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Loads Jenkins build history that regular syncs never see (they only ingest the last completed build).
+ * Each job's history is paged newest-first, missing builds are ingested in bounded windows on the shared
+ * sync pool, and per-job checkpoints let an interrupted run resume and skip jobs that are already done.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class JenkinsBackfillService {
+
+    private final JenkinsService jenkinsService;
+
+    private final JenkinsResultRepository jenkinsResultRepository;
+
+    private final JenkinsBackfillCheckpointRepository jenkinsBackfillCheckpointRepository;
+
+    @Value("${jenkins.backfill.page-size:50}")
+    private int pageSize;
+    @Value("${jenkins.backfill.window-size:4}")
+    private int windowSize;
+    @Value("${jenkins.backfill.default-days:90}")
+    private int defaultDays;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private volatile JenkinsBackfillReport currentReport;
+    private ExecutorService coordinator;
+
+    @PostConstruct
+    void startCoordinator() {
+        coordinator = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "jenkins-backfill");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void stopCoordinator() {
+        coordinator.shutdownNow();
+    }
+
+    /**
+     * Start a backfill of the last days of history, for one job or for every discovered job.
+     * Returns the running report; if a backfill is already in progress that report is returned instead.
+     */
+    public JenkinsBackfillReport startBackfill(Integer days, String jobName) {
+        if (!running.compareAndSet(false, true)) {
+            return currentReport;
+        }
+
+        JenkinsBackfillReport report = new JenkinsBackfillReport();
+        report.setDays(days != null && days > 0 ? days : defaultDays);
+        report.setRunning(true);
+        currentReport = report;
+
+        coordinator.submit(() -> {
+            try {
+                runBackfill(report, jobName);
+            }
+            catch (Exception e) {
+                log.error("Jenkins backfill aborted: {}", e.getMessage(), e);
+            }
+            finally {
+                report.setCurrentJob(null);
+                report.setFinishedAt(LocalDateTime.now());
+                report.setRunning(false);
+                running.set(false);
+            }
+        });
+        return report;
+    }
+
+    public JenkinsBackfillReport getStatus() {
+        return currentReport;
+    }
+
+    private void runBackfill(JenkinsBackfillReport report, String jobName) {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(report.getDays());
+        List<String> jobNames = jobName != null && !jobName.isEmpty() ? List.of(jobName) :
+                jenkinsService.discoverJobs().stream().map(JenkinsJobSummary::getFullName).collect(Collectors.toList());
+        report.setTotalJobs(jobNames.size());
+        log.info("Starting Jenkins backfill of {} days for {} jobs", report.getDays(), jobNames.size());
+
+        for (String name : jobNames) {
+            if (Thread.currentThread().isInterrupted()) {
+                log.warn("Jenkins backfill interrupted before job {}", name);
+                return;
+            }
+            report.setCurrentJob(name);
+            try {
+                backfillJob(name, cutoff, report);
+            }
+            catch (Exception e) {
+                log.error("Backfill failed for job {}: {}", name, e.getMessage(), e);
+                report.getFailedJobNames().add(name);
+            }
+        }
+        log.info("Jenkins backfill finished - jobs: {}, skipped: {}, builds ingested: {}, builds failed: {}",
+                report.getCompletedJobs(), report.getSkippedJobs(), report.getBuildsIngested(), report.getBuildsFailed());
+    }
+
+    private void backfillJob(String jobName, LocalDateTime cutoff, JenkinsBackfillReport report) {
+        JenkinsBackfillCheckpoint checkpoint = jenkinsBackfillCheckpointRepository.findByJobName(jobName)
+                .orElseGet(JenkinsBackfillCheckpoint::new);
+        if (checkpoint.isCompleted() && checkpoint.getCutoff() != null && !checkpoint.getCutoff().isAfter(cutoff)) {
+            // An earlier run already covered at least this window
+            report.setSkippedJobs(report.getSkippedJobs() + 1);
+            return;
+        }
+        checkpoint.setJobName(jobName);
+        checkpoint.setCutoff(cutoff);
+        checkpoint.setCompleted(false);
+
+        // Builds already stored are skipped, which is what makes a rerun resume where the last one stopped.
+        // A failed build still has its result row, so the checkpoint's failed builds are submitted again.
+        Set<String> failedBuilds = parseBuildList(checkpoint.getFailedBuilds());
+        Set<String> storedBuilds = new HashSet<>(jenkinsResultRepository.findBuildNumbersByJobName(jobName));
+        storedBuilds.removeAll(failedBuilds);
+        Set<String> failedThisRun = new HashSet<>();
+        int ingested = 0;
+        int failed = 0;
+        boolean reachedCutoff = false;
+
+        for (int from = 0; !reachedCutoff; from += pageSize) {
+            List<JenkinsBuildInfo> page = jenkinsService.fetchBuildHistory(jobName, from, from + pageSize);
+            if (page.isEmpty()) {
+                break;
+            }
+
+            List<JenkinsBuildInfo> missing = new ArrayList<>();
+            Integer lowestOnPage = null;
+            for (JenkinsBuildInfo build : page) {
+                LocalDateTime buildTime = LocalDateTime.ofInstant(Instant.ofEpochMilli(build.getTimestamp()), ZoneId.systemDefault());
+                if (buildTime.isBefore(cutoff)) {
+                    reachedCutoff = true;
+                    break;
+                }
+                lowestOnPage = build.getNumber();
+                if (!"IN_PROGRESS".equals(build.getResult()) && !storedBuilds.contains(String.valueOf(build.getNumber()))) {
+                    missing.add(build);
+                }
+            }
+
+            for (int start = 0; start < missing.size(); start += Math.max(1, windowSize)) {
+                List<JenkinsBuildInfo> window = missing.subList(start, Math.min(start + Math.max(1, windowSize), missing.size()));
+                List<CompletableFuture<JenkinsSyncOutcome>> pending = new ArrayList<>();
+                for (JenkinsBuildInfo build : window) {
+                    pending.add(jenkinsService.submitBuildBackfill(jobName, build));
+                }
+                // Wait for the whole window before the next one, so one job never floods the sync pool
+                for (int i = 0; i < pending.size(); i++) {
+                    String buildNumber = String.valueOf(window.get(i).getNumber());
+                    if (pending.get(i).join() == JenkinsSyncOutcome.SYNCED) {
+                        ingested++;
+                        failedBuilds.remove(buildNumber);
+                        report.setBuildsIngested(report.getBuildsIngested() + 1);
+                    }
+                    else {
+                        failed++;
+                        failedBuilds.add(buildNumber);
+                        failedThisRun.add(buildNumber);
+                        report.setBuildsFailed(report.getBuildsFailed() + 1);
+                    }
+                }
+            }
+
+            if (lowestOnPage != null) {
+                checkpoint.setLowWaterBuild(lowestOnPage);
+            }
+            checkpoint.setBuildsIngested((checkpoint.getBuildsIngested() != null ? checkpoint.getBuildsIngested() : 0) + ingested);
+            ingested = 0;
+            checkpoint.setFailedBuilds(failedBuilds.isEmpty() ? null : String.join(",", failedBuilds));
+            jenkinsBackfillCheckpointRepository.save(checkpoint);
+
+            if (page.size() < pageSize) {
+                break;
+            }
+        }
+
+        // Jobs with failed builds stay incomplete and keep them in failed_builds, so the next run retries them;
+        // earlier failures this walk no longer reached (deleted builds, or past the cutoff) are dropped
+        failedBuilds.retainAll(failedThisRun);
+        checkpoint.setFailedBuilds(failedBuilds.isEmpty() ? null : String.join(",", failedBuilds));
+        checkpoint.setCompleted(failed == 0);
+        jenkinsBackfillCheckpointRepository.save(checkpoint);
+        if (failed > 0) {
+            report.getFailedJobNames().add(jobName);
+        }
+        report.setCompletedJobs(report.getCompletedJobs() + 1);
+    }
+
+    private Set<String> parseBuildList(String builds) {
+        Set<String> parsed = new TreeSet<>();
+        if (builds != null) {
+            for (String build : builds.split(",")) {
+                if (!build.isBlank()) {
+                    parsed.add(build.trim());
+                }
+            }
+        }
+        return parsed;
+    }
+}
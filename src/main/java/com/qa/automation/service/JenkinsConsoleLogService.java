@@ -0,0 +1,141 @@
+package com.qa.automation.service;
+
+import com.qa.automation.dto.ConsoleTestMatch;
+import com.qa.automation.dto.JenkinsConsoleScanResult;
+import com.qa.automation.utils.ConsoleTestPatternEngine;
+import com.qa.automation.utils.JenkinsJobPath;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Streams Jenkins console logs line by line through the progressiveText endpoint. The body is never held in
+ * memory as a whole; only lines that pass the pattern engine's byte-level prefilter are decoded and matched.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class JenkinsConsoleLogService {
+
+    private static final int MAX_LINE_BYTES = 64 * 1024;
+
+    private final RestTemplate jenkinsRestTemplate;
+
+    private final ConsoleTestPatternService consoleTestPatternService;
+
+    @Value("${jenkins.url:}")
+    private String jenkinsUrl;
+    @Value("${jenkins.username:}")
+    private String jenkinsUsername;
+    @Value("${jenkins.token:}")
+    private String jenkinsToken;
+
+    /**
+     * Stream the console log of a build from startOffset (in bytes), passing every recognised test result to the sink.
+     * The returned offset always falls on a line boundary, so a later scan can resume without splitting a line.
+     */
+    public JenkinsConsoleScanResult scan(String jobName, String buildNumber, long startOffset, Consumer<ConsoleTestMatch> sink) {
+        ConsoleTestPatternEngine.LineMatcher lineMatcher = consoleTestPatternService.engineForJob(jobName).newLineMatcher();
+        String url = jenkinsUrl + JenkinsJobPath.of(jobName) + "/" + buildNumber + "/logText/progressiveText?start=" + startOffset;
+
+        return jenkinsRestTemplate.execute(url, HttpMethod.GET,
+                request -> request.getHeaders().putAll(createAuthHeaders()),
+                response -> {
+                    // X-More-Data is set while the build is still writing its log
+                    boolean moreData = "true".equalsIgnoreCase(response.getHeaders().getFirst("X-More-Data"));
+                    long textSize = parseTextSize(response.getHeaders().getFirst("X-Text-Size"));
+
+                    LineScan scan = scanLines(response.getBody(), moreData, lineMatcher, sink);
+                    long nextOffset = !moreData && textSize >= 0 ? textSize : startOffset + scan.completeBytes;
+                    log.debug("Scanned console log of {} #{} from offset {} to {}, {} test lines",
+                            jobName, buildNumber, startOffset, nextOffset, scan.matchedLines);
+                    return new JenkinsConsoleScanResult(nextOffset, moreData, scan.matchedLines);
+                });
+    }
+
+    private LineScan scanLines(InputStream body, boolean moreData, ConsoleTestPatternEngine.LineMatcher lineMatcher,
+                               Consumer<ConsoleTestMatch> sink) throws IOException {
+        LineScan scan = new LineScan();
+        byte[] buffer = new byte[64 * 1024];
+        byte[] line = new byte[1024];
+        int lineLength = 0;
+        long totalBytes = 0;
+
+        int read;
+        while ((read = body.read(buffer)) != -1) {
+            for (int i = 0; i < read; i++) {
+                byte b = buffer[i];
+                if (b == '\n') {
+                    emitIfMatched(line, lineLength, lineMatcher, sink, scan);
+                    lineLength = 0;
+                    scan.completeBytes = totalBytes + i + 1;
+                }
+                else if (lineLength < MAX_LINE_BYTES) {
+                    if (lineLength == line.length) {
+                        line = Arrays.copyOf(line, Math.min(line.length * 2, MAX_LINE_BYTES));
+                    }
+                    line[lineLength++] = b;
+                }
+            }
+            totalBytes += read;
+        }
+
+        // A trailing line without newline is only complete once the log is finished
+        if (lineLength > 0 && !moreData) {
+            emitIfMatched(line, lineLength, lineMatcher, sink, scan);
+            scan.completeBytes = totalBytes;
+        }
+        return scan;
+    }
+
+    private void emitIfMatched(byte[] line, int length, ConsoleTestPatternEngine.LineMatcher lineMatcher,
+                               Consumer<ConsoleTestMatch> sink, LineScan scan) {
+        long candidates = lineMatcher.candidates(line, length);
+        if (candidates == 0) {
+            return;
+        }
+        if (length > 0 && line[length - 1] == '\r') {
+            length--;
+        }
+        ConsoleTestMatch match = lineMatcher.match(new String(line, 0, length, StandardCharsets.UTF_8), candidates);
+        if (match != null) {
+            scan.matchedLines++;
+            sink.accept(match);
+        }
+    }
+
+    private long parseTextSize(String header) {
+        try {
+            return header != null ? Long.parseLong(header.trim()) : -1;
+        }
+        catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private HttpHeaders createAuthHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        if (jenkinsUsername != null && !jenkinsUsername.isEmpty() &&
+                jenkinsToken != null && !jenkinsToken.isEmpty()) {
+            String auth = jenkinsUsername + ":" + jenkinsToken;
+            String encodedAuth = Base64.getEncoder().encodeToString(auth.getBytes(StandardCharsets.UTF_8));
+            headers.set("Authorization", "Basic " + encodedAuth);
+        }
+        return headers;
+    }
+
+    private static final class LineScan {
+        private long completeBytes;
+        private int matchedLines;
+    }
+}
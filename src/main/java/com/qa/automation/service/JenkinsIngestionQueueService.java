@@ -0,0 +1,240 @@
+package com.qa.automation.service;
+
+import com.qa.automation.exception.ResourceNotFoundException;
+import com.qa.automation.model.JenkinsIngestionDeadLetter;
+import com.qa.automation.model.JenkinsIngestionTask;
+import com.qa.automation.repository.JenkinsIngestionDeadLetterRepository;
+import com.qa.automation.repository.JenkinsIngestionQueueRepository;
+import com.qa.automation.repository.JenkinsIngestionTaskRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Durable work queue for Jenkins build ingestion. Tasks live in jenkins_ingestion_tasks, are claimed by a fixed
+ * set of workers, retried with exponential backoff and moved to jenkins_ingestion_dead_letters after
+ * max-attempts failures. When Jenkins or the database is slow the backlog simply grows in the table
+ * instead of builds being dropped.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class JenkinsIngestionQueueService {
+
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    private final JenkinsService jenkinsService;
+
+    private final JenkinsIngestionTaskRepository jenkinsIngestionTaskRepository;
+
+    private final JenkinsIngestionQueueRepository jenkinsIngestionQueueRepository;
+
+    private final JenkinsIngestionDeadLetterRepository jenkinsIngestionDeadLetterRepository;
+
+    @Value("${jenkins.queue.enabled:true}")
+    private boolean enabled;
+    @Value("${jenkins.queue.workers:4}")
+    private int workers;
+    @Value("${jenkins.queue.max-attempts:6}")
+    private int maxAttempts;
+    @Value("${jenkins.queue.backoff-base-ms:30000}")
+    private long backoffBaseMs;
+    @Value("${jenkins.queue.backoff-max-ms:3600000}")
+    private long backoffMaxMs;
+    @Value("${jenkins.queue.lease-ms:900000}")
+    private long leaseMs;
+
+    private final String workerId = ManagementFactory.getRuntimeMXBean().getName();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong completedCount = new AtomicLong();
+    private final AtomicLong retriedCount = new AtomicLong();
+    private final AtomicLong deadLetteredCount = new AtomicLong();
+    private ExecutorService workerPool;
+
+    @PostConstruct
+    void startWorkers() {
+        AtomicInteger threadCount = new AtomicInteger();
+        workerPool = Executors.newFixedThreadPool(Math.max(1, workers), runnable -> {
+            Thread thread = new Thread(runnable, "jenkins-ingest-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void stopWorkers() {
+        // Claimed tasks that are cut short here come back once their lease expires
+        workerPool.shutdownNow();
+    }
+
+    /**
+     * Queue ingestion of a build (null = last completed build). A pending task for the same build absorbs the request.
+     */
+    public JenkinsIngestionTask enqueue(String jobName, Integer buildNumber) {
+        Long taskId = jenkinsIngestionQueueRepository.enqueue(jobName, buildNumber);
+        log.debug("Queued ingestion of job {} build {}", jobName, buildNumber != null ? buildNumber : "latest");
+        return jenkinsIngestionTaskRepository.findById(taskId).orElseGet(() -> {
+            // Already claimed and finished by a worker
+            JenkinsIngestionTask task = new JenkinsIngestionTask();
+            task.setId(taskId);
+            task.setJobName(jobName);
+            task.setBuildNumber(buildNumber);
+            return task;
+        });
+    }
+
+    /**
+     * Claim as many due tasks as there are idle workers. Nothing is claimed while every worker is busy,
+     * which keeps unclaimed work visible (and claimable by other instances) in the table.
+     */
+    @Scheduled(fixedDelayString = "${jenkins.queue.poll-ms:2000}", initialDelayString = "${jenkins.queue.initial-delay-ms:30000}")
+    public void drainQueue() {
+        if (!enabled) {
+            return;
+        }
+        int idle = Math.max(1, workers) - inFlight.get();
+        if (idle <= 0) {
+            return;
+        }
+
+        List<JenkinsIngestionTask> tasks;
+        try {
+            tasks = jenkinsIngestionQueueRepository.claim(workerId, idle, LocalDateTime.now().plus(Duration.ofMillis(leaseMs)));
+        }
+        catch (Exception e) {
+            log.error("Failed to claim ingestion tasks: {}", e.getMessage());
+            return;
+        }
+
+        for (JenkinsIngestionTask task : tasks) {
+            inFlight.incrementAndGet();
+            try {
+                workerPool.submit(() -> {
+                    try {
+                        process(task);
+                    }
+                    finally {
+                        inFlight.decrementAndGet();
+                    }
+                });
+            }
+            catch (Exception e) {
+                inFlight.decrementAndGet();
+                log.error("Failed to dispatch ingestion task {}: {}", task.getId(), e.getMessage());
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${jenkins.queue.lease-check-ms:60000}", initialDelayString = "${jenkins.queue.initial-delay-ms:30000}")
+    public void releaseExpiredLeases() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            int released = jenkinsIngestionQueueRepository.releaseExpiredLeases();
+            if (released > 0) {
+                log.warn("Returned {} ingestion tasks with expired worker leases to the queue", released);
+            }
+        }
+        catch (Exception e) {
+            log.error("Failed to release expired ingestion leases: {}", e.getMessage());
+        }
+    }
+
+    public Map<String, Object> getQueueStatus() {
+        Map<String, Object> status = new HashMap<>();
+        status.put("enabled", enabled);
+        status.put("workers", workers);
+        status.put("inFlight", inFlight.get());
+        status.put("pending", jenkinsIngestionTaskRepository.countByStatus(JenkinsIngestionTask.STATUS_PENDING));
+        status.put("ready", jenkinsIngestionTaskRepository.countByStatusAndNextAttemptAtLessThanEqual(
+                JenkinsIngestionTask.STATUS_PENDING, LocalDateTime.now()));
+        status.put("running", jenkinsIngestionTaskRepository.countByStatus(JenkinsIngestionTask.STATUS_RUNNING));
+        status.put("deadLetters", jenkinsIngestionDeadLetterRepository.count());
+        status.put("completed", completedCount.get());
+        status.put("retried", retriedCount.get());
+        status.put("deadLettered", deadLetteredCount.get());
+        return status;
+    }
+
+    public List<JenkinsIngestionDeadLetter> getDeadLetters() {
+        return jenkinsIngestionDeadLetterRepository.findTop100ByOrderByFailedAtDesc();
+    }
+
+    /**
+     * Move a dead-lettered task back into the queue with a fresh attempt budget
+     */
+    public JenkinsIngestionTask requeueDeadLetter(Long deadLetterId) {
+        JenkinsIngestionDeadLetter deadLetter = jenkinsIngestionDeadLetterRepository.findById(deadLetterId)
+                .orElseThrow(() -> new ResourceNotFoundException("Dead letter not found with id: " + deadLetterId));
+        JenkinsIngestionTask task = enqueue(deadLetter.getJobName(), deadLetter.getBuildNumber());
+        jenkinsIngestionDeadLetterRepository.delete(deadLetter);
+        return task;
+    }
+
+    private void process(JenkinsIngestionTask task) {
+        if (task.getAttempts() > maxAttempts) {
+            // Only reachable when earlier attempts died with their worker and the lease ran out
+            deadLetter(task, "Exceeded " + maxAttempts + " attempts");
+            return;
+        }
+
+        try {
+            // Runs on the shared sync pool, serialized with other syncs of the job and under the per-host cap
+            jenkinsService.submitQueuedBuild(task.getJobName(), task.getBuildNumber()).join();
+            jenkinsIngestionQueueRepository.complete(task.getId());
+            completedCount.incrementAndGet();
+        }
+        catch (Exception e) {
+            Throwable failure = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            String error = truncate(failure.getClass().getSimpleName() + ": " + failure.getMessage());
+            if (task.getAttempts() >= maxAttempts) {
+                deadLetter(task, error);
+                return;
+            }
+            LocalDateTime nextAttemptAt = LocalDateTime.now().plus(Duration.ofMillis(backoffMs(task.getAttempts())));
+            log.warn("Ingestion of job {} build {} failed (attempt {}/{}), retrying at {}: {}", task.getJobName(),
+                    task.getBuildNumber() != null ? task.getBuildNumber() : "latest", task.getAttempts(), maxAttempts,
+                    nextAttemptAt, error);
+            jenkinsIngestionQueueRepository.retryLater(task, nextAttemptAt, error);
+            retriedCount.incrementAndGet();
+        }
+    }
+
+    private void deadLetter(JenkinsIngestionTask task, String error) {
+        log.error("Ingestion of job {} build {} moved to dead letters after {} attempts: {}", task.getJobName(),
+                task.getBuildNumber() != null ? task.getBuildNumber() : "latest", task.getAttempts(), error);
+        jenkinsIngestionQueueRepository.deadLetter(task, error);
+        deadLetteredCount.incrementAndGet();
+    }
+
+    /**
+     * Exponential backoff, base * 2^(attempt - 1) capped at backoff-max-ms, jittered into its upper half so
+     * tasks that failed together (one Jenkins outage) do not all retry in the same instant
+     */
+    private long backoffMs(int attempt) {
+        long ceiling = backoffBaseMs << Math.min(Math.max(0, attempt - 1), 20);
+        ceiling = Math.min(Math.max(1000, ceiling), backoffMaxMs);
+        return ceiling / 2 + ThreadLocalRandom.current().nextLong(ceiling / 2 + 1);
+    }
+
+    private String truncate(String message) {
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+}
@@ -0,0 +1,252 @@
+package com.qa.automation.service;
+
+import com.qa.automation.dto.JenkinsJobSummary;
+import com.qa.automation.dto.JenkinsPollStatus;
+import com.qa.automation.dto.JenkinsSyncOutcome;
+import com.qa.automation.model.JenkinsResult;
+import com.qa.automation.repository.JenkinsJobSyncStateRepository;
+import com.qa.automation.repository.JenkinsResultRepository;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Polls Jenkins jobs in the background. Each job is re-synced on an interval derived from its job frequency,
+ * with jitter so jobs do not line up, and a global budget caps how many syncs run at once.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class JenkinsPollerService {
+
+    private static final Map<String, Duration> FREQUENCY_INTERVALS = Map.of(
+            "Continuous", Duration.ofMinutes(2),
+            "Hourly", Duration.ofMinutes(5),
+            "Daily", Duration.ofMinutes(30),
+            "On Demand", Duration.ofHours(1),
+            "Weekly", Duration.ofHours(6),
+            "Monthly", Duration.ofHours(24));
+    private static final Duration DEFAULT_INTERVAL = Duration.ofMinutes(15);
+    // First retry after a failed discovery; doubles per consecutive failure up to roster-refresh-ms
+    private static final long DISCOVERY_RETRY_BASE_MS = 60000;
+
+    private final JenkinsService jenkinsService;
+
+    private final JenkinsResultRepository jenkinsResultRepository;
+
+    private final JenkinsJobSyncStateRepository jenkinsJobSyncStateRepository;
+
+    @Value("${jenkins.poll.enabled:false}")
+    private boolean enabled;
+    @Value("${jenkins.poll.max-concurrent:4}")
+    private int maxConcurrent;
+    @Value("${jenkins.poll.jitter-ratio:0.1}")
+    private double jitterRatio;
+    @Value("${jenkins.poll.roster-refresh-ms:600000}")
+    private long rosterRefreshMs;
+
+    private final Map<String, JobSchedule> schedules = new ConcurrentHashMap<>();
+    private Semaphore budget;
+    private volatile Instant rosterRefreshedAt;
+    private volatile Instant nextRosterRefreshAt;
+    private volatile int discoveryFailures;
+
+    @PostConstruct
+    void initBudget() {
+        budget = new Semaphore(Math.max(1, maxConcurrent));
+    }
+
+    /**
+     * Dispatch every job that is due, as long as the global budget allows it
+     */
+    @Scheduled(fixedDelayString = "${jenkins.poll.tick-ms:30000}", initialDelayString = "${jenkins.poll.initial-delay-ms:60000}")
+    public void pollDueJobs() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            Instant now = Instant.now();
+            if (nextRosterRefreshAt == null || !now.isBefore(nextRosterRefreshAt)) {
+                refreshRoster(now);
+            }
+
+            List<JobSchedule> due = schedules.values().stream()
+                    .filter(schedule -> !schedule.inFlight && !schedule.nextDueAt.isAfter(now))
+                    .sorted(Comparator.comparing(schedule -> schedule.nextDueAt))
+                    .collect(Collectors.toList());
+
+            for (JobSchedule schedule : due) {
+                if (!budget.tryAcquire()) {
+                    // Budget exhausted; remaining jobs stay due and are picked up on the next tick
+                    log.debug("Poll budget exhausted, {} jobs deferred", due.size() - due.indexOf(schedule));
+                    break;
+                }
+                dispatch(schedule);
+            }
+        }
+        catch (Exception e) {
+            log.error("Error polling Jenkins jobs: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Current schedule of every polled job, ordered by next due time
+     */
+    public Map<String, Object> getStatus() {
+        List<JenkinsPollStatus> jobs = schedules.values().stream()
+                .sorted(Comparator.comparing(schedule -> schedule.nextDueAt))
+                .map(schedule -> new JenkinsPollStatus(schedule.jobName, schedule.frequency, schedule.interval.getSeconds(),
+                        schedule.nextDueAt, schedule.lastPolledAt, schedule.lastOutcome, schedule.inFlight))
+                .collect(Collectors.toList());
+
+        Map<String, Object> status = new HashMap<>();
+        status.put("enabled", enabled);
+        status.put("maxConcurrent", maxConcurrent);
+        status.put("inFlight", jobs.stream().filter(JenkinsPollStatus::isInFlight).count());
+        status.put("rosterRefreshedAt", rosterRefreshedAt);
+        status.put("nextRosterRefreshAt", nextRosterRefreshAt);
+        status.put("discoveryFailures", discoveryFailures);
+        status.put("jobs", jobs);
+        return status;
+    }
+
+    private void dispatch(JobSchedule schedule) {
+        schedule.inFlight = true;
+        schedule.lastPolledAt = Instant.now();
+        try {
+            jenkinsService.submitJobSync(schedule.jobName, true)
+                    .whenComplete((outcome, error) -> complete(schedule, error == null ? outcome : JenkinsSyncOutcome.FAILED));
+        }
+        catch (Exception e) {
+            log.error("Failed to dispatch poll for job {}: {}", schedule.jobName, e.getMessage());
+            complete(schedule, JenkinsSyncOutcome.FAILED);
+        }
+    }
+
+    private void complete(JobSchedule schedule, JenkinsSyncOutcome outcome) {
+        // A failed sync has already been handed to the durable ingestion queue by JenkinsService
+        schedule.lastOutcome = outcome;
+        schedule.nextDueAt = Instant.now().plus(jittered(schedule.interval));
+        schedule.inFlight = false;
+        budget.release();
+    }
+
+    /**
+     * Rebuild the job list from Jenkins discovery, using stored job frequencies where the dashboard already has them.
+     * When discovery fails the current roster is kept (or seeded from the jobs already synced) and discovery is
+     * retried with backoff, so the due jobs still get polled on this tick.
+     */
+    private void refreshRoster(Instant now) {
+        Map<String, String> knownFrequencies = new HashMap<>();
+        for (JenkinsResult result : jenkinsResultRepository.findLatestResultsForAllJobs()) {
+            knownFrequencies.put(result.getJobName(), result.getJobFrequency());
+        }
+
+        List<JenkinsJobSummary> jobs;
+        try {
+            jobs = jenkinsService.discoverJobs();
+            discoveryFailures = 0;
+        }
+        catch (Exception e) {
+            discoveryFailures++;
+            long retryMs = Math.min(rosterRefreshMs, DISCOVERY_RETRY_BASE_MS << Math.min(discoveryFailures - 1, 10));
+            nextRosterRefreshAt = now.plusMillis(retryMs);
+            log.warn("Jenkins job discovery failed ({} in a row), retrying in {} ms: {}", discoveryFailures, retryMs, e.getMessage());
+            if (schedules.isEmpty()) {
+                seedRosterFromKnownJobs(now, knownFrequencies);
+            }
+            return;
+        }
+
+        Set<String> seen = scheduleJobs(now, jobs, knownFrequencies);
+        schedules.entrySet().removeIf(entry -> !seen.contains(entry.getKey()) && !entry.getValue().inFlight);
+        rosterRefreshedAt = now;
+        nextRosterRefreshAt = now.plusMillis(rosterRefreshMs);
+        log.info("Jenkins poller roster refreshed: {} jobs scheduled", schedules.size());
+    }
+
+    /**
+     * Add schedules for new jobs and update the interval of known ones; returns the names of the given jobs
+     */
+    private Set<String> scheduleJobs(Instant now, List<JenkinsJobSummary> jobs, Map<String, String> knownFrequencies) {
+        Set<String> seen = new HashSet<>();
+        for (JenkinsJobSummary job : jobs) {
+            String jobName = job.getFullName();
+            seen.add(jobName);
+
+            String frequency = knownFrequencies.get(jobName);
+            if (frequency == null || frequency.isEmpty() || "Unknown".equals(frequency)) {
+                frequency = JenkinsResult.inferJobFrequency(jobName);
+            }
+            Duration interval = FREQUENCY_INTERVALS.getOrDefault(frequency, DEFAULT_INTERVAL);
+
+            JobSchedule schedule = schedules.get(jobName);
+            if (schedule == null) {
+                // Spread first polls across one interval so a restart does not fire every job at once
+                long offsetMs = ThreadLocalRandom.current().nextLong(Math.max(1, interval.toMillis()));
+                schedules.put(jobName, new JobSchedule(jobName, frequency, interval, now.plusMillis(offsetMs)));
+            }
+            else if (!schedule.interval.equals(interval)) {
+                schedule.frequency = frequency;
+                schedule.interval = interval;
+                if (!schedule.inFlight && schedule.nextDueAt.isAfter(now.plus(interval))) {
+                    schedule.nextDueAt = now.plus(jittered(interval));
+                }
+            }
+        }
+        return seen;
+    }
+
+    /**
+     * Schedule the jobs the dashboard already knows (synced or with stored results) while discovery is unavailable
+     */
+    private void seedRosterFromKnownJobs(Instant now, Map<String, String> knownFrequencies) {
+        Set<String> jobNames = new HashSet<>(knownFrequencies.keySet());
+        jobNames.addAll(jenkinsJobSyncStateRepository.findAllJobNames());
+        List<JenkinsJobSummary> jobs = new ArrayList<>();
+        for (String jobName : jobNames) {
+            jobs.add(new JenkinsJobSummary(jobName, null, null));
+        }
+        scheduleJobs(now, jobs, knownFrequencies);
+        log.info("Jenkins poller seeded {} known jobs while discovery is unavailable", schedules.size());
+    }
+
+    private Duration jittered(Duration interval) {
+        double factor = 1.0 + (ThreadLocalRandom.current().nextDouble() * 2 - 1) * jitterRatio;
+        return Duration.ofMillis(Math.max(1000, (long) (interval.toMillis() * factor)));
+    }
+
+    private static final class JobSchedule {
+        private final String jobName;
+        private volatile String frequency;
+        private volatile Duration interval;
+        private volatile Instant nextDueAt;
+        private volatile Instant lastPolledAt;
+        private volatile JenkinsSyncOutcome lastOutcome;
+        private volatile boolean inFlight;
+
+        private JobSchedule(String jobName, String frequency, Duration interval, Instant nextDueAt) {
+            this.jobName = jobName;
+            this.frequency = frequency;
+            this.interval = interval;
+            this.nextDueAt = nextDueAt;
+        }
+    }
+}
@@ -2,25 +2,56 @@ package com.qa.automation.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.qa.automation.dto.JenkinsBuildInfo;
+import com.qa.automation.dto.JenkinsConsoleScanResult;
+import com.qa.automation.dto.JenkinsJobSummary;
+import com.qa.automation.dto.JenkinsSyncOutcome;
+import com.qa.automation.dto.JenkinsSyncReport;
 import com.qa.automation.model.*;
+import com.qa.automation.repository.JenkinsJobSyncStateRepository;
 import com.qa.automation.repository.JenkinsResultRepository;
+import com.qa.automation.repository.JenkinsTestCaseBatchRepository;
 import com.qa.automation.repository.JenkinsTestCaseRepository;
+import com.qa.automation.utils.JenkinsJobPath;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
 @Service
@@ -28,7 +59,10 @@ import org.springframework.web.client.RestTemplate;
 @Slf4j
 public class JenkinsService {
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    // Absolute cap on folder nesting followed by discovery, including follow-up requests for deep folders
+    private static final int MAX_FOLDER_NESTING = 10;
+
+    private final RestTemplate jenkinsRestTemplate;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     private final JenkinsResultRepository jenkinsResultRepository;
@@ -36,17 +70,57 @@ public class JenkinsService {
 
     private final JenkinsTestCaseRepository jenkinsTestCaseRepository;
 
+    private final JenkinsTestCaseBatchRepository jenkinsTestCaseBatchRepository;
+
+    private final JenkinsJobSyncStateRepository jenkinsJobSyncStateRepository;
+
     private final TestNGXMLParserService testNGXMLParserService;
 
+    private final JenkinsConsoleLogService jenkinsConsoleLogService;
+
     private final TesterService testerService;
 
     private final ProjectService projectService;
+
+    // Resolved lazily: the ingestion queue itself depends on this service
+    private final ObjectProvider<JenkinsIngestionQueueService> ingestionQueueProvider;
+
     @Value("${jenkins.url:}")
     private String jenkinsUrl;
     @Value("${jenkins.username:}")
     private String jenkinsUsername;
     @Value("${jenkins.token:}")
     private String jenkinsToken;
+    @Value("${jenkins.sync.parallelism:8}")
+    private int syncParallelism;
+    @Value("${jenkins.sync.max-concurrent-per-host:4}")
+    private int maxConcurrentPerHost;
+    @Value("${jenkins.sync.incremental:true}")
+    private boolean incrementalByDefault;
+    @Value("${jenkins.discovery.tree-mode:true}")
+    private boolean treeDiscovery;
+    @Value("${jenkins.discovery.folder-depth:3}")
+    private int folderDepth;
+
+    // Bounded pool shared by every caller that syncs jobs, a serial queue per job and a concurrency lane per Jenkins host
+    private final Map<String, Deque<Runnable>> jobLanes = new ConcurrentHashMap<>();
+    private final Map<String, HostLane> hostLanes = new ConcurrentHashMap<>();
+    private ExecutorService syncExecutor;
+
+    @PostConstruct
+    void startSyncExecutor() {
+        AtomicInteger threadCount = new AtomicInteger();
+        syncExecutor = Executors.newFixedThreadPool(Math.max(1, syncParallelism), runnable -> {
+            Thread thread = new Thread(runnable, "jenkins-sync-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void stopSyncExecutor() {
+        syncExecutor.shutdownNow();
+    }
 
     public List<JenkinsResult> getAllLatestResults() {
         try {
@@ -114,79 +188,379 @@ public class JenkinsService {
         return stats;
     }
 
-    public void syncAllJobsFromJenkins() {
-        try {
-            List<String> jobNames = fetchJobNamesFromJenkins();
+    public JenkinsSyncReport syncAllJobsFromJenkins() {
+        return syncAllJobsFromJenkins(incrementalByDefault);
+    }
 
-            for (String jobName : jobNames) {
-                try {
-                    syncJobResultFromJenkins(jobName);
+    /**
+     * Sync every Jenkins job; in incremental mode jobs whose last completed build was already ingested are skipped
+     */
+    public JenkinsSyncReport syncAllJobsFromJenkins(boolean incremental) {
+        long startedAt = System.currentTimeMillis();
+        Map<String, CompletableFuture<JenkinsSyncOutcome>> pending = new LinkedHashMap<>();
+        try {
+            if (treeDiscovery) {
+                // One request returns every job together with its last completed build
+                for (JenkinsJobSummary job : discoverJobs()) {
+                    pending.put(job.getFullName(), submitWithHostLimit(job.getFullName(), () -> syncDiscoveredJob(job, incremental)));
                 }
-                catch (Exception e) {
-                    log.error("Failed to sync job {}", jobName, e);
+            }
+            else {
+                for (String jobName : fetchJobNamesFromJenkins()) {
+                    pending.put(jobName, submitJobSync(jobName, incremental));
                 }
             }
         }
         catch (Exception e) {
+            pending.values().forEach(future -> future.cancel(true));
             throw new RuntimeException("Failed to sync jobs from Jenkins: " + e.getMessage(), e);
         }
+
+        JenkinsSyncReport report = new JenkinsSyncReport();
+        report.setTotalJobs(pending.size());
+
+        for (Map.Entry<String, CompletableFuture<JenkinsSyncOutcome>> entry : pending.entrySet()) {
+            JenkinsSyncOutcome outcome;
+            try {
+                outcome = entry.getValue().get();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                pending.values().forEach(future -> future.cancel(true));
+                throw new RuntimeException("Jenkins sync was interrupted", e);
+            }
+            catch (ExecutionException e) {
+                log.error("Failed to sync job {}", entry.getKey(), e.getCause());
+                outcome = queueRetry(entry.getKey(), null);
+            }
+            report.record(entry.getKey(), outcome);
+        }
+
+        report.setWallTimeMs(System.currentTimeMillis() - startedAt);
+        log.info("Jenkins sync finished in {} ms - total: {}, synced: {}, skipped: {}, failed: {}",
+                report.getWallTimeMs(), report.getTotalJobs(), report.getSyncedJobs(),
+                report.getSkippedJobs(), report.getFailedJobs());
+        return report;
     }
 
-    public void syncJobResultFromJenkins(String jobName) {
-        try {
-            JsonNode buildInfo = fetchLatestCompletedBuildInfo(jobName);
-            if (buildInfo == null) {
+    public CompletableFuture<JenkinsSyncOutcome> submitJobSync(String jobName) {
+        return submitJobSync(jobName, incrementalByDefault);
+    }
+
+    /**
+     * Queue a single job sync on the bounded sync pool, honouring the per-host concurrency cap
+     */
+    public CompletableFuture<JenkinsSyncOutcome> submitJobSync(String jobName, boolean incremental) {
+        return submitWithHostLimit(jobName, () -> syncJobResultFromJenkins(jobName, incremental));
+    }
+
+    /**
+     * Run a durable queue task on the sync pool, behind the same per-job and per-host limits as every other sync.
+     * The future fails with the ingestion error so the queue can retry the task.
+     */
+    public CompletableFuture<JenkinsSyncOutcome> submitQueuedBuild(String jobName, Integer buildNumber) {
+        return submitWithHostLimit(jobName, () -> {
+            try {
+                return ingestQueuedBuild(jobName, buildNumber);
+            }
+            catch (RuntimeException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    /**
+     * Syncs with the same key (the job name) run one at a time, in submission order, so a webhook, the poller and
+     * a queue worker never write one job's results and sync state concurrently. Each runs under the per-host cap.
+     */
+    private CompletableFuture<JenkinsSyncOutcome> submitWithHostLimit(String laneKey, Supplier<JenkinsSyncOutcome> sync) {
+        CompletableFuture<JenkinsSyncOutcome> result = new CompletableFuture<>();
+        Runnable task = () -> {
+            // A sync cancelled while it waited for its job or a host permit is dropped without running
+            if (result.isDone()) {
                 return;
             }
+            try {
+                result.complete(sync.get());
+            }
+            catch (CompletionException e) {
+                result.completeExceptionally(e.getCause() != null ? e.getCause() : e);
+            }
+            catch (Throwable t) {
+                result.completeExceptionally(t);
+            }
+        };
+
+        boolean[] jobIdle = new boolean[1];
+        jobLanes.compute(laneKey, (key, waiting) -> {
+            Deque<Runnable> tasks = waiting != null ? waiting : new ArrayDeque<>();
+            jobIdle[0] = tasks.isEmpty();
+            tasks.add(task);
+            return tasks;
+        });
+        if (jobIdle[0]) {
+            startJobTask(laneKey, task);
+        }
+        return result;
+    }
 
-            String buildNumber = buildInfo.get("number").asText();
-            String buildStatusCode = buildInfo.get("result") != null ?
-                    buildInfo.get("result").asText() : "IN_PROGRESS";
+    private void startJobTask(String laneKey, Runnable task) {
+        HostLane lane = hostLanes.computeIfAbsent(jenkinsHost(), host -> new HostLane(Math.max(1, maxConcurrentPerHost)));
+        lane.submit(() -> {
+            try {
+                task.run();
+            }
+            finally {
+                jobTaskFinished(laneKey);
+            }
+        });
+    }
 
-            Optional<JenkinsResult> existingResult = jenkinsResultRepository
-                    .findByJobNameAndBuildNumber(jobName, buildNumber);
+    private void jobTaskFinished(String laneKey) {
+        // The running task stays at the head of its lane until it finishes
+        Runnable[] next = new Runnable[1];
+        jobLanes.computeIfPresent(laneKey, (key, tasks) -> {
+            tasks.poll();
+            next[0] = tasks.peek();
+            return tasks.isEmpty() ? null : tasks;
+        });
+        if (next[0] != null) {
+            startJobTask(laneKey, next[0]);
+        }
+    }
 
-            JenkinsResult jenkinsResult = existingResult.orElse(new JenkinsResult());
-            jenkinsResult.setJobName(jobName);
-            jenkinsResult.setBuildNumber(buildNumber);
+    private String jenkinsHost() {
+        try {
+            return String.valueOf(URI.create(jenkinsUrl.trim()).getHost());
+        }
+        catch (Exception e) {
+            return String.valueOf(jenkinsUrl);
+        }
+    }
 
-            // NEW: Convert build status string to lookup reference
-            BuildStatus buildStatus = lookupService.findOrCreateBuildStatus(buildStatusCode);
-            jenkinsResult.setBuildStatus(buildStatus);
+    /**
+     * Sync a job's last completed build. A failure (Jenkins unreachable, extraction failed) is handed to the
+     * durable ingestion queue, which retries it with backoff.
+     */
+    public JenkinsSyncOutcome syncJobResultFromJenkins(String jobName, boolean incremental) {
+        Integer latestBuildNumber = null;
+        try {
+            latestBuildNumber = readLastCompletedBuildNumber(jobName);
+            if (latestBuildNumber == null) {
+                return JenkinsSyncOutcome.SKIPPED;
+            }
 
-            jenkinsResult.setBuildUrl(buildInfo.get("url").asText());
+            JenkinsJobSyncState syncState = findSyncState(jobName);
+            if (incremental && latestBuildNumber.equals(syncState.getLastBuildNumber())) {
+                log.debug("Job {} build {} already ingested, skipping", jobName, latestBuildNumber);
+                return JenkinsSyncOutcome.SKIPPED;
+            }
+
+            JenkinsBuildInfo buildInfo = JenkinsBuildInfo.fromJson(readBuildInfo(jobName, latestBuildNumber));
+            if (buildInfo == null) {
+                return JenkinsSyncOutcome.SKIPPED;
+            }
+
+            if (ingestBuild(jobName, buildInfo, syncState)) {
+                return JenkinsSyncOutcome.SYNCED;
+            }
+            return queueRetry(jobName, latestBuildNumber);
+        }
+        catch (Exception e) {
+            log.error("Failed to sync job result for {}: {}", jobName, e.getMessage(), e);
+            return queueRetry(jobName, latestBuildNumber);
+        }
+    }
 
-            long timestamp = buildInfo.get("timestamp").asLong();
-            jenkinsResult.setBuildTimestamp(
-                    LocalDateTime.ofInstant(Instant.ofEpochMilli(timestamp),
-                            java.time.ZoneId.systemDefault()));
+    /**
+     * Sync a job found by tree discovery; its last completed build details are already known
+     */
+    private JenkinsSyncOutcome syncDiscoveredJob(JenkinsJobSummary job, boolean incremental) {
+        try {
+            JenkinsBuildInfo buildInfo = job.getLastCompletedBuild();
+            if (buildInfo == null) {
+                return JenkinsSyncOutcome.SKIPPED;
+            }
 
-            // Continue with existing code for test results...
-            JsonNode testNGResults = fetchTestNGResults(jobName, buildNumber);
-            if (testNGResults != null) {
-                processTestNGResults(jenkinsResult, testNGResults);
+            JenkinsJobSyncState syncState = findSyncState(job.getFullName());
+            if (incremental && Integer.valueOf(buildInfo.getNumber()).equals(syncState.getLastBuildNumber())) {
+                log.debug("Job {} build {} already ingested, skipping", job.getFullName(), buildInfo.getNumber());
+                return JenkinsSyncOutcome.SKIPPED;
             }
 
-            JenkinsResult savedResult = jenkinsResultRepository.save(jenkinsResult);
-            fetchAndSaveIndividualTestCases(savedResult);
+            if (ingestBuild(job.getFullName(), buildInfo, syncState)) {
+                return JenkinsSyncOutcome.SYNCED;
+            }
+            return queueRetry(job.getFullName(), buildInfo.getNumber());
+        }
+        catch (Exception e) {
+            log.error("Failed to sync job result for {}: {}", job.getFullName(), e.getMessage(), e);
+            return queueRetry(job.getFullName(), job.getLastCompletedBuild() != null ? job.getLastCompletedBuild().getNumber() : null);
+        }
+    }
 
+    /**
+     * Hand a failed sync to the durable ingestion queue (null build = last completed build) and report it as failed
+     */
+    private JenkinsSyncOutcome queueRetry(String jobName, Integer buildNumber) {
+        try {
+            ingestionQueueProvider.getObject().enqueue(jobName, buildNumber);
         }
         catch (Exception e) {
-            System.err.println("Failed to sync job result for " + jobName + ": " + e.getMessage());
-            e.printStackTrace();
+            log.error("Failed to queue retry of job {} build {}: {}", jobName,
+                    buildNumber != null ? buildNumber : "latest", e.getMessage());
+        }
+        return JenkinsSyncOutcome.FAILED;
+    }
+
+    private JenkinsJobSyncState findSyncState(String jobName) {
+        // High-water mark: a job whose last completed build is already ingested can be skipped
+        return jenkinsJobSyncStateRepository.findByJobName(jobName).orElseGet(JenkinsJobSyncState::new);
+    }
+
+    /**
+     * Ingest one build for the durable ingestion queue; buildNumber null means the last completed build.
+     * Unlike the sync methods this throws when Jenkins or the test case extraction fails, so the queue
+     * can retry the task with backoff instead of the build's data being lost.
+     */
+    public JenkinsSyncOutcome ingestQueuedBuild(String jobName, Integer buildNumber) throws Exception {
+        Integer targetBuild = buildNumber != null ? buildNumber : readLastCompletedBuildNumber(jobName);
+        if (targetBuild == null) {
+            return JenkinsSyncOutcome.SKIPPED;
+        }
+
+        JenkinsJobSyncState syncState = findSyncState(jobName);
+        if (buildNumber == null && targetBuild.equals(syncState.getLastBuildNumber())) {
+            return JenkinsSyncOutcome.SKIPPED;
+        }
+
+        JenkinsBuildInfo buildInfo = JenkinsBuildInfo.fromJson(readBuildInfo(jobName, targetBuild));
+        if (buildInfo == null || "IN_PROGRESS".equals(buildInfo.getResult())) {
+            throw new IllegalStateException("Build " + targetBuild + " of job " + jobName + " has not completed yet");
+        }
+
+        // Older builds are stored without moving the high-water mark back
+        boolean ingested;
+        if (syncState.getLastBuildNumber() != null && targetBuild < syncState.getLastBuildNumber()) {
+            ingested = fetchAndSaveIndividualTestCases(saveBuildResult(jobName, buildInfo), new JenkinsJobSyncState(), null) != null;
+        }
+        else {
+            ingested = ingestBuild(jobName, buildInfo, syncState);
+        }
+        if (!ingested) {
+            throw new IllegalStateException("Test case extraction failed for job " + jobName + " build " + targetBuild);
         }
+        return JenkinsSyncOutcome.SYNCED;
     }
 
-    private void fetchAndSaveIndividualTestCases(JenkinsResult jenkinsResult) {
+    private boolean ingestBuild(String jobName, JenkinsBuildInfo buildInfo, JenkinsJobSyncState syncState) {
+        boolean sameBuildAsLastSync = Integer.valueOf(buildInfo.getNumber()).equals(syncState.getLastBuildNumber());
+
+        JenkinsResult savedResult = saveBuildResult(jobName, buildInfo);
+        String contentHash = fetchAndSaveIndividualTestCases(savedResult, syncState,
+                sameBuildAsLastSync ? syncState.getContentHash() : null);
+
+        if (contentHash != null) {
+            syncState.setJobName(jobName);
+            syncState.setLastBuildNumber(buildInfo.getNumber());
+            syncState.setContentHash(contentHash);
+            syncState.setLastSyncedAt(LocalDateTime.now());
+            saveSyncState(syncState);
+        }
+        return contentHash != null;
+    }
+
+    private void saveSyncState(JenkinsJobSyncState syncState) {
         try {
-            // Clear existing test cases
-            List<JenkinsTestCase> existingTestCases = jenkinsTestCaseRepository
-                    .findByJenkinsResultId(jenkinsResult.getId());
-            if (!existingTestCases.isEmpty()) {
-                jenkinsTestCaseRepository.deleteAll(existingTestCases);
-                System.out.println("Deleted " + existingTestCases.size() + " existing test cases for job: " + jenkinsResult.getJobName());
+            jenkinsJobSyncStateRepository.save(syncState);
+        }
+        catch (DataIntegrityViolationException e) {
+            if (syncState.getId() != null) {
+                throw e;
+            }
+            // First sync of the job raced another instance: take over the row it created
+            JenkinsJobSyncState stored = jenkinsJobSyncStateRepository.findByJobName(syncState.getJobName())
+                    .orElseThrow(() -> e);
+            syncState.setId(stored.getId());
+            jenkinsJobSyncStateRepository.save(syncState);
+        }
+    }
+
+    /**
+     * Queue ingestion of a historical build on the sync pool. Unlike a regular sync this leaves the job's
+     * high-water mark alone, so incremental sync keeps tracking the newest build.
+     */
+    public CompletableFuture<JenkinsSyncOutcome> submitBuildBackfill(String jobName, JenkinsBuildInfo buildInfo) {
+        // Keyed by build: a backfill leaves the job's sync state alone, so builds of one job may run side by side
+        return submitWithHostLimit(jobName + "#" + buildInfo.getNumber(), () -> {
+            try {
+                JenkinsResult savedResult = saveBuildResult(jobName, buildInfo);
+                String contentHash = fetchAndSaveIndividualTestCases(savedResult, new JenkinsJobSyncState(), null);
+                return contentHash != null ? JenkinsSyncOutcome.SYNCED : JenkinsSyncOutcome.FAILED;
+            }
+            catch (Exception e) {
+                log.error("Failed to backfill build {} of job {}: {}", buildInfo.getNumber(), jobName, e.getMessage(), e);
+                return JenkinsSyncOutcome.FAILED;
             }
+        });
+    }
+
+    private JenkinsResult saveBuildResult(String jobName, JenkinsBuildInfo buildInfo) {
+        String buildNumber = String.valueOf(buildInfo.getNumber());
+
+        Optional<JenkinsResult> existingResult = jenkinsResultRepository
+                .findByJobNameAndBuildNumber(jobName, buildNumber);
+
+        JenkinsResult jenkinsResult = existingResult.orElse(new JenkinsResult());
+        JsonNode testNGResults = fetchTestNGResults(jobName, buildNumber);
+        applyBuildInfo(jenkinsResult, jobName, buildInfo, testNGResults);
+
+        try {
+            return jenkinsResultRepository.save(jenkinsResult);
+        }
+        catch (DataIntegrityViolationException e) {
+            if (existingResult.isPresent()) {
+                throw e;
+            }
+            // Another application instance stored this build first: update its row instead of inserting a second
+            JenkinsResult stored = jenkinsResultRepository.findByJobNameAndBuildNumber(jobName, buildNumber)
+                    .orElseThrow(() -> e);
+            applyBuildInfo(stored, jobName, buildInfo, testNGResults);
+            return jenkinsResultRepository.save(stored);
+        }
+    }
+
+    private void applyBuildInfo(JenkinsResult jenkinsResult, String jobName, JenkinsBuildInfo buildInfo, JsonNode testNGResults) {
+        String buildNumber = String.valueOf(buildInfo.getNumber());
+        jenkinsResult.setJobName(jobName);
+        jenkinsResult.setBuildNumber(buildNumber);
+
+        // NEW: Convert build status string to lookup reference
+        BuildStatus buildStatus = lookupService.findOrCreateBuildStatus(buildInfo.getResult());
+        jenkinsResult.setBuildStatus(buildStatus);
+
+        jenkinsResult.setBuildUrl(buildInfo.getUrl());
+
+        jenkinsResult.setBuildTimestamp(
+                LocalDateTime.ofInstant(Instant.ofEpochMilli(buildInfo.getTimestamp()),
+                        java.time.ZoneId.systemDefault()));
+
+        // Continue with existing code for test results...
+        if (testNGResults != null) {
+            processTestNGResults(jenkinsResult, testNGResults);
+        }
+    }
 
+    /**
+     * Extract the build's individual test cases and replace the stored rows, unless their content hash matches
+     * previousContentHash. Returns the content hash of the extracted cases, or null if extraction failed.
+     */
+    private String fetchAndSaveIndividualTestCases(JenkinsResult jenkinsResult, JenkinsJobSyncState syncState,
+                                                   String previousContentHash) {
+        try {
             List<JenkinsTestCase> testCases = new ArrayList<>();
 
             // PRIORITY 1: Try to extract from TestNG XML files (most reliable)
@@ -206,18 +580,27 @@ public class JenkinsService {
                     System.out.println("No Jenkins test report found, trying console log parsing...");
 
                     // PRIORITY 3: Fallback to console log parsing
-                    testCases.addAll(parseTestCasesFromConsoleLog(jenkinsResult));
+                    testCases.addAll(parseTestCasesFromConsoleLog(jenkinsResult, syncState));
                 }
             }
 
+            String contentHash = computeContentHash(testCases);
+            if (contentHash.equals(previousContentHash)) {
+                log.info("Test cases for job {} build {} are unchanged, skipping rewrite",
+                        jenkinsResult.getJobName(), jenkinsResult.getBuildNumber());
+                return contentHash;
+            }
+
+            // Replace existing test cases with one DELETE and chunked multi-row INSERTs
+            int savedCount = jenkinsTestCaseBatchRepository.replaceForResult(jenkinsResult.getId(), testCases);
+
             if (!testCases.isEmpty()) {
-                List<JenkinsTestCase> savedTestCases = jenkinsTestCaseRepository.saveAll(testCases);
-                System.out.println("Successfully saved " + savedTestCases.size() + " test cases for job: " +
+                System.out.println("Successfully saved " + savedCount + " test cases for job: " +
                         jenkinsResult.getJobName() + " build: " + jenkinsResult.getBuildNumber());
 
                 // Log sample test cases
-                for (int i = 0; i < Math.min(3, savedTestCases.size()); i++) {
-                    JenkinsTestCase tc = savedTestCases.get(i);
+                for (int i = 0; i < Math.min(3, testCases.size()); i++) {
+                    JenkinsTestCase tc = testCases.get(i);
                     System.out.println("Sample test case " + (i + 1) + ": " + tc.getClassName() + "." + tc.getTestName() + " - " + tc.getStatus());
                 }
             }
@@ -229,35 +612,51 @@ public class JenkinsService {
                 System.out.println("3. Console output doesn't contain recognizable test patterns");
             }
 
+            return contentHash;
         }
         catch (Exception e) {
-            System.err.println("Error fetching individual test cases: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Error fetching individual test cases for job {} build {}: {}", jenkinsResult.getJobName(),
+                    jenkinsResult.getBuildNumber(), e.getMessage(), e);
+            return null;
         }
     }
 
-    private JsonNode fetchJenkinsTestReport(String jobName, String buildNumber) {
-        String url = jenkinsUrl + "/job/" + jobName + "/" + buildNumber + "/testReport/api/json";
+    private String computeContentHash(List<JenkinsTestCase> testCases) throws Exception {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        for (JenkinsTestCase tc : testCases) {
+            String row = tc.getClassName() + "|" + tc.getTestName() + "|" + tc.getStatus() + "|" +
+                    tc.getDuration() + "|" + tc.getErrorMessage() + "|" + tc.getStackTrace() + "\n";
+            digest.update(row.getBytes(StandardCharsets.UTF_8));
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
 
-        try {
-            HttpHeaders headers = createAuthHeaders();
-            HttpEntity<String> entity = new HttpEntity<>(headers);
+    /**
+     * The build's test report, or null when the build has none (404). Other failures are thrown so the build is
+     * retried rather than stored without its test cases.
+     */
+    private JsonNode fetchJenkinsTestReport(String jobName, String buildNumber) throws IOException {
+        String url = jenkinsUrl + JenkinsJobPath.of(jobName) + "/" + buildNumber + "/testReport/api/json";
 
-            ResponseEntity<String> response = restTemplate.exchange(
-                    url, HttpMethod.GET, entity, String.class);
+        HttpHeaders headers = createAuthHeaders();
+        HttpEntity<String> entity = new HttpEntity<>(headers);
 
-            if (response.getStatusCode().is2xxSuccessful()) {
-                JsonNode result = objectMapper.readTree(response.getBody());
-                System.out.println("Jenkins test report keys: " + getJsonKeys(result));
-                return result;
-            }
-            else {
-                System.out.println("Jenkins test report not available (HTTP " + response.getStatusCodeValue() + ")");
-                return null;
-            }
+        ResponseEntity<String> response;
+        try {
+            response = jenkinsRestTemplate.exchange(url, HttpMethod.GET, entity, String.class);
         }
-        catch (Exception e) {
-            System.err.println("Failed to fetch Jenkins test report for " + jobName + " build " + buildNumber + ": " + e.getMessage());
+        catch (HttpClientErrorException.NotFound e) {
+            System.out.println("Jenkins test report not available for " + jobName + " build " + buildNumber);
+            return null;
+        }
+
+        if (response.getStatusCode().is2xxSuccessful()) {
+            JsonNode result = objectMapper.readTree(response.getBody());
+            System.out.println("Jenkins test report keys: " + getJsonKeys(result));
+            return result;
+        }
+        else {
+            System.out.println("Jenkins test report not available (HTTP " + response.getStatusCodeValue() + ")");
             return null;
         }
     }
@@ -367,91 +766,57 @@ public class JenkinsService {
         }
     }
 
-    private List<JenkinsTestCase> parseTestCasesFromConsoleLog(JenkinsResult jenkinsResult) {
+    /**
+     * Stream the console log for test result lines. When the same build was scanned before, the scan resumes from
+     * the stored byte offset and the cases already stored for the build are kept as the prefix of the result.
+     * A log that cannot be read is thrown rather than returned half scanned; a missing log (404) yields no cases.
+     */
+    private List<JenkinsTestCase> parseTestCasesFromConsoleLog(JenkinsResult jenkinsResult, JenkinsJobSyncState syncState) {
         List<JenkinsTestCase> testCases = new ArrayList<>();
 
         try {
-            String consoleUrl = jenkinsUrl + "/job/" + jenkinsResult.getJobName() + "/" +
-                    jenkinsResult.getBuildNumber() + "/consoleText";
-
-            HttpHeaders headers = createAuthHeaders();
-            HttpEntity<String> entity = new HttpEntity<>(headers);
-
-            ResponseEntity<String> response = restTemplate.exchange(
-                    consoleUrl, HttpMethod.GET, entity, String.class);
-
-            if (response.getStatusCode().is2xxSuccessful()) {
-                String consoleLog = response.getBody();
-                System.out.println("Parsing console log for test results...");
-
-                String[] lines = consoleLog.split("\n");
-                for (String line : lines) {
-                    // Look for TestNG result patterns
-                    if (line.contains("testcases.") && (line.contains("PASSED") || line.contains("FAILED") || line.contains("SKIPPED"))) {
-                        JenkinsTestCase testCase = parseTestCaseFromLogLine(jenkinsResult, line);
-                        if (testCase != null) {
-                            testCases.add(testCase);
-                        }
-                    }
+            long startOffset = 0;
+            boolean resume = syncState.getConsoleOffset() != null &&
+                    jenkinsResult.getBuildNumber().equals(String.valueOf(syncState.getConsoleBuildNumber()));
+            if (resume) {
+                startOffset = syncState.getConsoleOffset();
+                for (JenkinsTestCase stored : jenkinsTestCaseRepository.findByJenkinsResultId(jenkinsResult.getId())) {
+                    testCases.add(copyTestCase(jenkinsResult, stored));
                 }
-
-                System.out.println("Extracted " + testCases.size() + " test cases from console log");
             }
 
+            System.out.println("Parsing console log for test results from offset " + startOffset + "...");
+            JenkinsConsoleScanResult scan = jenkinsConsoleLogService.scan(jenkinsResult.getJobName(),
+                    jenkinsResult.getBuildNumber(), startOffset, match -> {
+                        JenkinsTestCase testCase = new JenkinsTestCase();
+                        testCase.setJenkinsResult(jenkinsResult);
+                        testCase.setClassName(match.getClassName());
+                        testCase.setTestName(match.getTestName());
+                        testCase.setStatus(match.getStatus());
+                        testCases.add(testCase);
+                    });
+
+            syncState.setConsoleBuildNumber(Integer.valueOf(jenkinsResult.getBuildNumber()));
+            syncState.setConsoleOffset(scan.getNextOffset());
+            System.out.println("Extracted " + testCases.size() + " test cases from console log");
         }
-        catch (Exception e) {
-            System.err.println("Error parsing console log: " + e.getMessage());
+        catch (HttpClientErrorException.NotFound e) {
+            System.out.println("No console log found for job " + jenkinsResult.getJobName() + " build " + jenkinsResult.getBuildNumber());
         }
 
         return testCases;
     }
 
-    private JenkinsTestCase parseTestCaseFromLogLine(JenkinsResult jenkinsResult, String line) {
-        try {
-            JenkinsTestCase testCase = new JenkinsTestCase();
-            testCase.setJenkinsResult(jenkinsResult);
-
-            // Parse patterns like: "testcases.AccountReceivableIT.methodName ... PASSED"
-            String status = "UNKNOWN";
-            if (line.contains("PASSED")) {
-                status = "PASSED";
-            }
-            else if (line.contains("FAILED")) {
-                status = "FAILED";
-            }
-            else if (line.contains("SKIPPED")) {
-                status = "SKIPPED";
-            }
-            testCase.setStatus(status);
-
-            // Extract class and method name
-            if (line.contains("testcases.")) {
-                int start = line.indexOf("testcases.");
-                String testInfo = line.substring(start);
-
-                // Find the end of the test identifier
-                String[] parts = testInfo.split("\\s+");
-                if (parts.length > 0) {
-                    String fullTestName = parts[0];
-                    int lastDot = fullTestName.lastIndexOf(".");
-                    if (lastDot > 0) {
-                        testCase.setClassName(fullTestName.substring(0, lastDot));
-                        testCase.setTestName(fullTestName.substring(lastDot + 1));
-                    }
-                    else {
-                        testCase.setClassName("testcases.AccountReceivableIT");
-                        testCase.setTestName(fullTestName);
-                    }
-                }
-            }
-
-            return testCase;
-
-        }
-        catch (Exception e) {
-            System.err.println("Error parsing test case from log line: " + e.getMessage());
-            return null;
-        }
+    private JenkinsTestCase copyTestCase(JenkinsResult jenkinsResult, JenkinsTestCase stored) {
+        JenkinsTestCase testCase = new JenkinsTestCase();
+        testCase.setJenkinsResult(jenkinsResult);
+        testCase.setClassName(stored.getClassName());
+        testCase.setTestName(stored.getTestName());
+        testCase.setStatus(stored.getStatus());
+        testCase.setDuration(stored.getDuration());
+        testCase.setErrorMessage(stored.getErrorMessage());
+        testCase.setStackTrace(stored.getStackTrace());
+        return testCase;
     }
 
     private String normalizeJenkinsStatus(String status) {
@@ -486,7 +851,7 @@ public class JenkinsService {
             HttpHeaders headers = createAuthHeaders();
             HttpEntity<String> entity = new HttpEntity<>(headers);
 
-            ResponseEntity<String> response = restTemplate.exchange(
+            ResponseEntity<String> response = jenkinsRestTemplate.exchange(
                     url, HttpMethod.GET, entity, String.class);
 
             JsonNode root = objectMapper.readTree(response.getBody());
@@ -507,45 +872,154 @@ public class JenkinsService {
         }
     }
 
-    private JsonNode fetchLatestCompletedBuildInfo(String jobName) {
-        String url = jenkinsUrl + "/job/" + jobName + "/api/json";
+    /**
+     * Discover all jobs, recursing into folders and multibranch projects up to jenkins.discovery.folder-depth,
+     * together with their last completed build in a single request. Folders nested deeper than that are
+     * fetched with a follow-up tree request of their own.
+     */
+    public List<JenkinsJobSummary> discoverJobs() {
+        String url = jenkinsUrl + "/api/json?tree=" + buildJobsTree(Math.max(1, folderDepth));
 
         try {
             HttpHeaders headers = createAuthHeaders();
             HttpEntity<String> entity = new HttpEntity<>(headers);
 
-            ResponseEntity<String> response = restTemplate.exchange(
+            ResponseEntity<String> response = jenkinsRestTemplate.exchange(
                     url, HttpMethod.GET, entity, String.class);
 
-            JsonNode jobInfo = objectMapper.readTree(response.getBody());
+            List<JenkinsJobSummary> jobs = new ArrayList<>();
+            collectJobs(objectMapper.readTree(response.getBody()).get("jobs"), "", 1, jobs);
+
+            log.info("Discovered {} jobs in Jenkins", jobs.size());
+            return jobs;
+        }
+        catch (Exception e) {
+            throw new RuntimeException("Failed to discover jobs from Jenkins", e);
+        }
+    }
+
+    private String buildJobsTree(int depth) {
+        String tree = "jobs[_class,name,url,lastCompletedBuild[number,result,timestamp,url]";
+        if (depth > 1) {
+            tree += "," + buildJobsTree(depth - 1);
+        }
+        return tree + "]";
+    }
+
+    private void collectJobs(JsonNode jobs, String parentPath, int level, List<JenkinsJobSummary> result) {
+        if (jobs == null || !jobs.isArray()) {
+            return;
+        }
+        for (JsonNode job : jobs) {
+            String fullName = parentPath.isEmpty() ? job.path("name").asText() : parentPath + "/" + job.path("name").asText();
 
-            JsonNode lastCompletedBuild = jobInfo.get("lastCompletedBuild");
-            if (lastCompletedBuild == null || lastCompletedBuild.isNull()) {
-                return null;
+            // Folders and multibranch projects expose child jobs instead of builds
+            if (job.has("jobs")) {
+                collectJobs(job.get("jobs"), fullName, level + 1, result);
+                continue;
+            }
+            // A folder on the last level of the tree comes back without its jobs
+            if (isFolder(job)) {
+                collectTruncatedFolder(fullName, level, result);
+                continue;
             }
 
-            int buildNumber = lastCompletedBuild.get("number").asInt();
+            result.add(new JenkinsJobSummary(fullName, job.path("url").asText(),
+                    JenkinsBuildInfo.fromJson(job.get("lastCompletedBuild"))));
+        }
+    }
+
+    private void collectTruncatedFolder(String folderName, int level, List<JenkinsJobSummary> result) {
+        if (level >= MAX_FOLDER_NESTING) {
+            log.warn("Jenkins folder {} is nested deeper than {} levels; its jobs are not discovered", folderName, MAX_FOLDER_NESTING);
+            return;
+        }
+        int depth = Math.max(1, Math.min(folderDepth, MAX_FOLDER_NESTING - level));
+        String url = jenkinsUrl + JenkinsJobPath.of(folderName) + "/api/json?tree=" + buildJobsTree(depth);
+        try {
+            HttpEntity<String> entity = new HttpEntity<>(createAuthHeaders());
+            ResponseEntity<String> response = jenkinsRestTemplate.exchange(url, HttpMethod.GET, entity, String.class);
+            collectJobs(objectMapper.readTree(response.getBody()).get("jobs"), folderName, level + 1, result);
+        }
+        catch (Exception e) {
+            log.warn("Could not discover jobs in Jenkins folder {} beyond the folder-depth limit: {}", folderName, e.getMessage());
+        }
+    }
+
+    private boolean isFolder(JsonNode job) {
+        String jobClass = job.path("_class").asText("");
+        return jobClass.endsWith("Folder") || jobClass.endsWith("MultiBranchProject");
+    }
 
-            String buildUrl = jenkinsUrl + "/job/" + jobName + "/" + buildNumber + "/api/json";
-            ResponseEntity<String> buildResponse = restTemplate.exchange(
-                    buildUrl, HttpMethod.GET, entity, String.class);
+    /**
+     * One page of a job's build history, newest first. allBuilds is used because builds is capped at 100 entries;
+     * the {from,to} range keeps each response small.
+     */
+    public List<JenkinsBuildInfo> fetchBuildHistory(String jobName, int from, int to) {
+        String tree = "allBuilds[number,result,timestamp,url]{" + from + "," + to + "}";
+        URI uri = URI.create(jenkinsUrl + JenkinsJobPath.of(jobName) + "/api/json?tree=" +
+                URLEncoder.encode(tree, StandardCharsets.UTF_8));
 
-            return objectMapper.readTree(buildResponse.getBody());
+        try {
+            HttpHeaders headers = createAuthHeaders();
+            HttpEntity<String> entity = new HttpEntity<>(headers);
+
+            ResponseEntity<String> response = jenkinsRestTemplate.exchange(
+                    uri, HttpMethod.GET, entity, String.class);
+
+            List<JenkinsBuildInfo> builds = new ArrayList<>();
+            JsonNode allBuilds = objectMapper.readTree(response.getBody()).get("allBuilds");
+            if (allBuilds != null && allBuilds.isArray()) {
+                for (JsonNode build : allBuilds) {
+                    JenkinsBuildInfo buildInfo = JenkinsBuildInfo.fromJson(build);
+                    if (buildInfo != null) {
+                        builds.add(buildInfo);
+                    }
+                }
+            }
+            return builds;
         }
         catch (Exception e) {
-            System.err.println("Failed to fetch build info for job: " + jobName + " - " + e.getMessage());
+            throw new RuntimeException("Failed to fetch build history for job " + jobName, e);
+        }
+    }
+
+    private Integer readLastCompletedBuildNumber(String jobName) throws Exception {
+        String url = jenkinsUrl + JenkinsJobPath.of(jobName) + "/api/json?tree=lastCompletedBuild[number]";
+
+        HttpHeaders headers = createAuthHeaders();
+        HttpEntity<String> entity = new HttpEntity<>(headers);
+
+        ResponseEntity<String> response = jenkinsRestTemplate.exchange(
+                url, HttpMethod.GET, entity, String.class);
+
+        JsonNode lastCompletedBuild = objectMapper.readTree(response.getBody()).get("lastCompletedBuild");
+        if (lastCompletedBuild == null || lastCompletedBuild.isNull()) {
             return null;
         }
+        return lastCompletedBuild.get("number").asInt();
+    }
+
+    private JsonNode readBuildInfo(String jobName, int buildNumber) throws Exception {
+        String url = jenkinsUrl + JenkinsJobPath.of(jobName) + "/" + buildNumber + "/api/json";
+
+        HttpHeaders headers = createAuthHeaders();
+        HttpEntity<String> entity = new HttpEntity<>(headers);
+
+        ResponseEntity<String> response = jenkinsRestTemplate.exchange(
+                url, HttpMethod.GET, entity, String.class);
+
+        return objectMapper.readTree(response.getBody());
     }
 
     private JsonNode fetchTestNGResults(String jobName, String buildNumber) {
-        String url = jenkinsUrl + "/job/" + jobName + "/" + buildNumber + "/testngreports/api/json";
+        String url = jenkinsUrl + JenkinsJobPath.of(jobName) + "/" + buildNumber + "/testngreports/api/json";
 
         try {
             HttpHeaders headers = createAuthHeaders();
             HttpEntity<String> entity = new HttpEntity<>(headers);
 
-            ResponseEntity<String> response = restTemplate.exchange(
+            ResponseEntity<String> response = jenkinsRestTemplate.exchange(
                     url, HttpMethod.GET, entity, String.class);
 
             JsonNode result = objectMapper.readTree(response.getBody());
@@ -560,13 +1034,13 @@ public class JenkinsService {
     }
 
     private JsonNode fetchStandardTestResults(String jobName, String buildNumber) {
-        String url = jenkinsUrl + "/job/" + jobName + "/" + buildNumber + "/testReport/api/json";
+        String url = jenkinsUrl + JenkinsJobPath.of(jobName) + "/" + buildNumber + "/testReport/api/json";
 
         try {
             HttpHeaders headers = createAuthHeaders();
             HttpEntity<String> entity = new HttpEntity<>(headers);
 
-            ResponseEntity<String> response = restTemplate.exchange(
+            ResponseEntity<String> response = jenkinsRestTemplate.exchange(
                     url, HttpMethod.GET, entity, String.class);
 
             return objectMapper.readTree(response.getBody());
@@ -639,7 +1113,7 @@ public class JenkinsService {
             HttpHeaders headers = createAuthHeaders();
             HttpEntity<String> entity = new HttpEntity<>(headers);
 
-            ResponseEntity<String> response = restTemplate.exchange(
+            ResponseEntity<String> response = jenkinsRestTemplate.exchange(
                     url, HttpMethod.GET, entity, String.class);
 
             boolean connected = response.getStatusCode().is2xxSuccessful();
@@ -822,4 +1296,58 @@ public class JenkinsService {
             result.setPassPercentage(0);
         }
     }
+
+    /**
+     * Per-host concurrency cap applied before dispatch: syncs beyond the cap wait in the lane, not on a pool
+     * thread, so a slow host cannot occupy the shared sync pool while jobs for other hosts are ready to run
+     */
+    private final class HostLane {
+
+        private final int limit;
+        private final Deque<Runnable> waiting = new ArrayDeque<>();
+        private int running;
+
+        private HostLane(int limit) {
+            this.limit = limit;
+        }
+
+        private synchronized void submit(Runnable task) {
+            if (running < limit) {
+                running++;
+                dispatch(task);
+            }
+            else {
+                waiting.add(task);
+            }
+        }
+
+        private void dispatch(Runnable task) {
+            try {
+                syncExecutor.execute(() -> {
+                    try {
+                        task.run();
+                    }
+                    finally {
+                        finished();
+                    }
+                });
+            }
+            catch (RejectedExecutionException e) {
+                // Pool shut down; the permit is never used
+                running--;
+                throw e;
+            }
+        }
+
+        private synchronized void finished() {
+            // Hand the permit straight to the next waiting sync, if any
+            Runnable next = waiting.poll();
+            if (next != null) {
+                dispatch(next);
+            }
+            else {
+                running--;
+            }
+        }
+    }
 }
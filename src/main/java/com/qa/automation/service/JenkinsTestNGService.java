@@ -7,10 +7,7 @@ import com.qa.automation.model.JenkinsResult;
 import com.qa.automation.model.JenkinsTestCase;
 import com.qa.automation.repository.JenkinsResultRepository;
 import com.qa.automation.repository.JenkinsTestCaseRepository;
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.net.HttpURLConnection;
-import java.net.URL;
+import com.qa.automation.utils.JenkinsJobPath;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -26,13 +23,14 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestTemplate;
 
 @Service
 @RequiredArgsConstructor
 public class JenkinsTestNGService {
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final RestTemplate jenkinsRestTemplate;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     private final JenkinsResultRepository jenkinsResultRepository;
@@ -40,6 +38,7 @@ public class JenkinsTestNGService {
     private final JenkinsTestCaseRepository jenkinsTestCaseRepository;
 
     private final TestNGXMLParserService testNGXMLParserService;
+    private final JenkinsConsoleLogService jenkinsConsoleLogService;
     private final LookupService lookupService;
 
     @Value("${jenkins.url:}")
@@ -290,13 +289,13 @@ public class JenkinsTestNGService {
     }
 
     private JsonNode fetchJenkinsTestReport(String jobName, String buildNumber) {
-        String url = jenkinsUrl + "/job/" + jobName + "/" + buildNumber + "/testReport/api/json";
+        String url = jenkinsUrl + JenkinsJobPath.of(jobName) + "/" + buildNumber + "/testReport/api/json";
 
         try {
             HttpHeaders headers = createAuthHeaders();
             HttpEntity<String> entity = new HttpEntity<>(headers);
 
-            ResponseEntity<String> response = restTemplate.exchange(
+            ResponseEntity<String> response = jenkinsRestTemplate.exchange(
                     url, HttpMethod.GET, entity, String.class);
 
             if (response.getStatusCode().is2xxSuccessful()) {
@@ -359,28 +358,13 @@ public class JenkinsTestNGService {
         List<Map<String, Object>> testCases = new ArrayList<>();
 
         try {
-            String consoleUrl = jenkinsUrl + "/job/" + jobName + "/" + buildNumber + "/consoleText";
-
-            HttpHeaders headers = createAuthHeaders();
-            HttpEntity<String> entity = new HttpEntity<>(headers);
-
-            ResponseEntity<String> response = restTemplate.exchange(
-                    consoleUrl, HttpMethod.GET, entity, String.class);
-
-            if (response.getStatusCode().is2xxSuccessful()) {
-                String consoleLog = response.getBody();
-                String[] lines = consoleLog.split("\n");
-
-                for (String line : lines) {
-                    // Look for TestNG result patterns
-                    if (line.contains("testcases.") && (line.contains("PASSED") || line.contains("FAILED") || line.contains("SKIPPED"))) {
-                        Map<String, Object> testCase = parseTestCaseFromLogLineForAPI(line);
-                        if (testCase != null) {
-                            testCases.add(testCase);
-                        }
-                    }
-                }
-            }
+            jenkinsConsoleLogService.scan(jobName, buildNumber, 0, match -> {
+                Map<String, Object> testCase = new HashMap<>();
+                testCase.put("status", match.getStatus());
+                testCase.put("className", match.getClassName());
+                testCase.put("testName", match.getTestName());
+                testCases.add(testCase);
+            });
         }
         catch (Exception e) {
             System.err.println("Error parsing console log: " + e.getMessage());
@@ -389,51 +373,6 @@ public class JenkinsTestNGService {
         return testCases;
     }
 
-    private Map<String, Object> parseTestCaseFromLogLineForAPI(String line) {
-        try {
-            Map<String, Object> testCase = new HashMap<>();
-
-            // Determine status
-            String status = "UNKNOWN";
-            if (line.contains("PASSED")) {
-                status = "PASSED";
-            }
-            else if (line.contains("FAILED")) {
-                status = "FAILED";
-            }
-            else if (line.contains("SKIPPED")) {
-                status = "SKIPPED";
-            }
-            testCase.put("status", status);
-
-            // Extract class and method name from patterns like "testcases.AccountReceivableIT.methodName"
-            if (line.contains("testcases.")) {
-                int start = line.indexOf("testcases.");
-                String testInfo = line.substring(start);
-
-                String[] parts = testInfo.split("\\s+");
-                if (parts.length > 0) {
-                    String fullTestName = parts[0];
-                    int lastDot = fullTestName.lastIndexOf(".");
-                    if (lastDot > 0) {
-                        testCase.put("className", fullTestName.substring(0, lastDot));
-                        testCase.put("testName", fullTestName.substring(lastDot + 1));
-                    }
-                    else {
-                        testCase.put("className", "testcases.AccountReceivableIT");
-                        testCase.put("testName", fullTestName);
-                    }
-                }
-            }
-
-            return testCase;
-        }
-        catch (Exception e) {
-            System.err.println("Error parsing test case from log line: " + e.getMessage());
-            return null;
-        }
-    }
-
     private List<Map<String, Object>> convertToDetailedFormat(List<JenkinsTestCase> testCases) {
         List<Map<String, Object>> result = new ArrayList<>();
 
@@ -483,43 +422,30 @@ public class JenkinsTestNGService {
     }
 
     private JsonNode fetchLatestBuildDetails(String jobName) throws Exception {
-        String url = jenkinsUrl + "/job/" + jobName + "/api/json";
+        String url = jenkinsUrl + JenkinsJobPath.of(jobName) + "/api/json";
         JsonNode response = sendGetRequest(url);
 
         if (response != null && response.has("lastCompletedBuild") &&
                 !response.get("lastCompletedBuild").isNull()) {
             int buildNumber = response.get("lastCompletedBuild").get("number").asInt();
-            return sendGetRequest(jenkinsUrl + "/job/" + jobName + "/" + buildNumber + "/api/json");
+            return sendGetRequest(jenkinsUrl + JenkinsJobPath.of(jobName) + "/" + buildNumber + "/api/json");
         }
         return null;
     }
 
     private JsonNode fetchTestNGResults(String jobName, int buildNumber) throws Exception {
-        String url = jenkinsUrl + "/job/" + jobName + "/" + buildNumber + "/testngreports/api/json";
+        String url = jenkinsUrl + JenkinsJobPath.of(jobName) + "/" + buildNumber + "/testngreports/api/json";
         return sendGetRequest(url);
     }
 
     private JsonNode sendGetRequest(String urlString) throws Exception {
-        URL url = new URL(urlString);
-        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
-        connection.setRequestMethod("GET");
-        connection.setRequestProperty("Authorization", "Basic " + encodeCredentials());
-
-        int responseCode = connection.getResponseCode();
-        if (responseCode == 200) {
-            BufferedReader in = new BufferedReader(new InputStreamReader(connection.getInputStream()));
-            String inputLine;
-            StringBuilder response = new StringBuilder();
-
-            while ((inputLine = in.readLine()) != null) {
-                response.append(inputLine);
-            }
-            in.close();
-
-            return objectMapper.readTree(response.toString());
+        try {
+            ResponseEntity<String> response = jenkinsRestTemplate.exchange(
+                    urlString, HttpMethod.GET, new HttpEntity<>(createAuthHeaders()), String.class);
+            return objectMapper.readTree(response.getBody());
         }
-        else {
-            System.err.println("Failed to fetch data from: " + urlString + ". Response code: " + responseCode);
+        catch (HttpStatusCodeException e) {
+            System.err.println("Failed to fetch data from: " + urlString + ". Response code: " + e.getStatusCode().value());
             return null;
         }
     }
@@ -535,11 +461,6 @@ public class JenkinsTestNGService {
         return headers;
     }
 
-    private String encodeCredentials() {
-        String credentials = jenkinsUsername + ":" + jenkinsToken;
-        return Base64.getEncoder().encodeToString(credentials.getBytes());
-    }
-
     private String formatTimestamp(long timestamp) {
         return LocalDateTime.ofInstant(Instant.ofEpochMilli(timestamp),
                 java.time.ZoneId.systemDefault()).toString();
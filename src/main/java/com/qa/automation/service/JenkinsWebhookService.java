@@ -0,0 +1,196 @@
+package com.qa.automation.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Accepts build notifications pushed by Jenkins (Notification plugin or a generic webhook) and turns them into
+ * ingestion queue tasks. Notifications for the same job inside the debounce window collapse into one task per build.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class JenkinsWebhookService {
+
+    private static final Set<String> COMPLETED_PHASES = Set.of("COMPLETED", "FINALIZED", "FINISHED");
+
+    private final JenkinsIngestionQueueService jenkinsIngestionQueueService;
+
+    @Value("${jenkins.webhook.secret:}")
+    private String webhookSecret;
+    @Value("${jenkins.webhook.debounce-ms:5000}")
+    private long debounceMs;
+
+    // Jobs with an enqueue already scheduled and the build numbers notified for them (0 = build not given)
+    private final Map<String, Set<Integer>> pendingJobs = new ConcurrentHashMap<>();
+    private final AtomicLong receivedCount = new AtomicLong();
+    private final AtomicLong coalescedCount = new AtomicLong();
+    private ScheduledExecutorService debounceScheduler;
+
+    @PostConstruct
+    void startScheduler() {
+        debounceScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "jenkins-webhook-debounce");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void stopScheduler() {
+        debounceScheduler.shutdownNow();
+    }
+
+    public boolean isEnabled() {
+        return webhookSecret != null && !webhookSecret.isEmpty();
+    }
+
+    /**
+     * Constant-time comparison of the shared secret sent by Jenkins
+     */
+    public boolean isAuthorized(String token) {
+        if (!isEnabled() || token == null) {
+            return false;
+        }
+        return MessageDigest.isEqual(webhookSecret.getBytes(StandardCharsets.UTF_8), token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Handle one notification payload; returns what was done with it
+     */
+    public Map<String, Object> handleNotification(JsonNode payload) {
+        receivedCount.incrementAndGet();
+        Map<String, Object> result = new HashMap<>();
+
+        String jobName = extractJobName(payload);
+        if (jobName == null || jobName.isEmpty()) {
+            result.put("accepted", false);
+            result.put("reason", "No job name in payload");
+            return result;
+        }
+        result.put("jobName", jobName);
+
+        String phase = extractPhase(payload);
+        if (phase != null && !COMPLETED_PHASES.contains(phase)) {
+            // STARTED/QUEUED notifications carry no results yet
+            result.put("accepted", false);
+            result.put("reason", "Ignored phase " + phase);
+            return result;
+        }
+
+        Integer buildNumber = extractBuildNumber(payload);
+        result.put("buildNumber", buildNumber);
+        result.put("accepted", true);
+        result.put("coalesced", !scheduleEnqueue(jobName, buildNumber));
+        return result;
+    }
+
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new HashMap<>();
+        status.put("enabled", isEnabled());
+        status.put("debounceMs", debounceMs);
+        status.put("received", receivedCount.get());
+        status.put("coalesced", coalescedCount.get());
+        status.put("pendingJobs", new ArrayList<>(pendingJobs.keySet()));
+        return status;
+    }
+
+    private boolean scheduleEnqueue(String jobName, Integer buildNumber) {
+        boolean[] created = new boolean[1];
+        pendingJobs.compute(jobName, (name, builds) -> {
+            Set<Integer> pending = builds != null ? builds : new TreeSet<>();
+            created[0] = builds == null;
+            pending.add(buildNumber != null ? buildNumber : 0);
+            return pending;
+        });
+        if (!created[0]) {
+            coalescedCount.incrementAndGet();
+            log.debug("Coalesced notification for job {}", jobName);
+            return false;
+        }
+
+        debounceScheduler.schedule(() -> {
+            // Remove first so a notification arriving after this point schedules a follow-up
+            Set<Integer> builds = pendingJobs.remove(jobName);
+            try {
+                for (Integer build : builds) {
+                    jenkinsIngestionQueueService.enqueue(jobName, build > 0 ? build : null);
+                }
+                log.info("Queued webhook ingestion for job {} builds {}", jobName, builds);
+            }
+            catch (Exception e) {
+                log.error("Failed to queue webhook ingestion for job {}: {}", jobName, e.getMessage(), e);
+            }
+        }, debounceMs, TimeUnit.MILLISECONDS);
+        return true;
+    }
+
+    private String extractJobName(JsonNode payload) {
+        // Generic webhook payloads name the job explicitly
+        for (String field : List.of("jobName", "job_name", "fullName", "full_name")) {
+            if (payload.hasNonNull(field)) {
+                return payload.get(field).asText().trim();
+            }
+        }
+
+        // Notification plugin: the job URL ("job/folder/job/name/") carries the full path, "name" only the leaf
+        String url = payload.path("url").asText("");
+        if (url.isEmpty()) {
+            url = payload.path("build").path("url").asText("");
+        }
+        String fromUrl = jobNameFromUrl(url);
+        if (fromUrl != null) {
+            return fromUrl;
+        }
+        return payload.hasNonNull("name") ? payload.get("name").asText().trim() : null;
+    }
+
+    private String jobNameFromUrl(String url) {
+        List<String> names = new ArrayList<>();
+        String[] segments = url.split("/");
+        for (int i = 0; i < segments.length - 1; i++) {
+            if ("job".equals(segments[i]) && !segments[i + 1].isEmpty()) {
+                names.add(URLDecoder.decode(segments[i + 1], StandardCharsets.UTF_8));
+            }
+        }
+        return names.isEmpty() ? null : String.join("/", names);
+    }
+
+    private Integer extractBuildNumber(JsonNode payload) {
+        JsonNode number = payload.path("build").path("number");
+        if (number.isMissingNode() || number.isNull()) {
+            number = payload.path("buildNumber");
+        }
+        if (number.isTextual() && number.asText().matches("\\d+")) {
+            return Integer.valueOf(number.asText());
+        }
+        return number.canConvertToInt() && number.asInt() > 0 ? number.asInt() : null;
+    }
+
+    private String extractPhase(JsonNode payload) {
+        JsonNode phase = payload.path("build").path("phase");
+        if (phase.isMissingNode() || phase.isNull()) {
+            phase = payload.path("phase");
+        }
+        return phase.isMissingNode() || phase.isNull() ? null : phase.asText().toUpperCase();
+    }
+}
@@ -7,6 +7,11 @@ import com.qa.automation.dto.JiraIssueDto;
 import com.qa.automation.dto.JiraTestCaseDto;
 import com.qa.automation.repository.JiraIssueRepository;
 import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
@@ -19,10 +24,12 @@ import java.util.regex.Pattern;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.http.ResponseEntity;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 @Service
 @RequiredArgsConstructor
@@ -35,6 +42,12 @@ public class JiraIntegrationService {
             Pattern.CASE_INSENSITIVE
     );
 
+    private static final String SPRINT_ISSUE_FIELDS = "summary,description,issuetype,status," +
+            "priority,assignee,created,updated,customfield_10020,customfield_11051";
+
+    // Changelog "created" timestamps, e.g. 2024-01-15T10:30:00.000+0000
+    private static final DateTimeFormatter CHANGELOG_TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSZ");
+
     private final JiraConfig jiraConfig;
 
     private final WebClient jiraWebClient;
@@ -45,186 +58,248 @@ public class JiraIntegrationService {
 
     private final QTestService qTestService;
 
+    @Value("${jira.search.comment-concurrency:6}")
+    private int commentConcurrency;
+
+    // Issues per search/jql page; Jira caps this at 100 for most field sets, so larger values are not honoured
+    @Value("${jira.search.page-size:100}")
+    private int searchPageSize;
+
     /**
      * ENHANCED: Fetch all issues from a specific sprint with optional project configuration
      */
     public List<JiraIssueDto> fetchIssuesFromSprint(String sprintId, String jiraProjectKey, String jiraBoardId) {
+        return fetchIssuesFromSprintReactive(sprintId, jiraProjectKey, jiraBoardId).block();
+    }
+
+    /**
+     * Non-blocking variant of fetchIssuesFromSprint; errors are logged and resolve to the issues read so far
+     */
+    public Mono<List<JiraIssueDto>> fetchIssuesFromSprintReactive(String sprintId, String jiraProjectKey, String jiraBoardId) {
+        return streamIssuesFromSprint(sprintId, jiraProjectKey, jiraBoardId)
+                .flatMapIterable(page -> page)
+                .collectList();
+    }
+
+    /**
+     * Stream a sprint's issues one search page at a time, following Jira's nextPageToken until the last page.
+     * Each page is parsed as it arrives, so memory use is bounded by the page size, not the sprint size.
+     */
+    public Flux<List<JiraIssueDto>> streamIssuesFromSprint(String sprintId, String jiraProjectKey, String jiraBoardId) {
+        return fetchSprintIssuePages(sprintId, jiraProjectKey, null)
+                .onErrorResume(WebClientResponseException.class, e -> {
+                    logger.error("Error fetching Jira issues from sprint {}: {} - {}",
+                            sprintId, e.getStatusCode(), e.getResponseBodyAsString());
+                    return Flux.empty();
+                })
+                .onErrorResume(e -> {
+                    logger.error("Unexpected error fetching Jira issues from sprint {}: {}", sprintId, e.getMessage(), e);
+                    return Flux.empty();
+                });
+    }
+
+    /**
+     * Stream only the sprint issues updated since the given time, or the whole sprint when it is null. Unlike
+     * streamIssuesFromSprint, errors are propagated so an incremental caller never moves its cursor past pages
+     * it did not receive.
+     */
+    public Flux<List<JiraIssueDto>> streamIssuesUpdatedSince(String sprintId, String jiraProjectKey, String jiraBoardId,
+                                                             LocalDateTime updatedSince) {
+        return fetchSprintIssuePages(sprintId, jiraProjectKey, updatedSince);
+    }
+
+    private Flux<List<JiraIssueDto>> fetchSprintIssuePages(String sprintId, String jiraProjectKey, LocalDateTime updatedSince) {
         if (!jiraConfig.isConfigured()) {
             logger.warn("Jira configuration is not complete");
-            return new ArrayList<>();
+            return Flux.empty();
         }
 
-        try {
-            // Use provided project key or fall back to default
-            String projectKey = (jiraProjectKey != null && !jiraProjectKey.trim().isEmpty())
-                    ? jiraProjectKey
-                    : jiraConfig.getJiraProjectKey();
+        // Use provided project key or fall back to default
+        String projectKey = (jiraProjectKey != null && !jiraProjectKey.trim().isEmpty())
+                ? jiraProjectKey
+                : jiraConfig.getJiraProjectKey();
 
-            String jql = String.format("sprint = %s AND project = %s", sprintId, projectKey);
+        String jql = String.format("sprint = %s AND project = %s", sprintId, projectKey);
+        if (updatedSince != null) {
+            // Relative minutes rather than a date literal, which Jira would read in the API user's time zone;
+            // rounded up so the window never starts after updatedSince
+            long minutes = Duration.between(updatedSince, LocalDateTime.now()).toSeconds() / 60 + 1;
+            jql += String.format(" AND updated >= \"-%dm\"", Math.max(minutes, 1));
+        }
 
-            // Use the new search/jql endpoint as required by Jira deprecation
-            logger.info("Fetching Jira issues from sprint: {} using JQL: {} (Project: {})",
-                    sprintId, jql, projectKey);
+        // Use the new search/jql endpoint as required by Jira deprecation
+        logger.info("Fetching Jira issues from sprint: {} using JQL: {} (Project: {})",
+                sprintId, jql, projectKey);
 
-            String response = jiraWebClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/rest/api/3/search/jql")
-                            .queryParam("jql", jql)
-                            .queryParam("maxResults", 1000)
-                            .queryParam("expand", "changelog")
-                            .queryParam("fields", "summary,description,issuetype,status," +
-                                    "priority,assignee,created,updated,customfield_10020,customfield_11051")
-                            .build())
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .timeout(Duration.ofSeconds(30))
-                    .block();
+        return searchJqlPages(jql, SPRINT_ISSUE_FIELDS, "changelog")
+                .map(page -> parseJiraResponse(page, sprintId));
+    }
 
-            logger.debug("Raw Jira API Response for sprint {}: {}", sprintId, response);
-            return parseJiraResponse(response, sprintId);
+    /**
+     * Every page of a search/jql query, requested one after another by following nextPageToken
+     */
+    private Flux<JsonNode> searchJqlPages(String jql, String fields, String expand) {
+        return fetchJqlPage(jql, fields, expand, null)
+                .expand(page -> {
+                    String nextPageToken = page.path("nextPageToken").asText(null);
+                    boolean isLast = page.path("isLast").asBoolean(nextPageToken == null);
+                    return !isLast && nextPageToken != null ? fetchJqlPage(jql, fields, expand, nextPageToken) : Mono.empty();
+                });
+    }
 
-        }
-        catch (WebClientResponseException e) {
-            logger.error("Error fetching Jira issues from sprint {}: {} - {}",
-                    sprintId, e.getStatusCode(), e.getResponseBodyAsString());
-            return new ArrayList<>();
-        }
-        catch (Exception e) {
-            logger.error("Unexpected error fetching Jira issues from sprint {}: {}", sprintId, e.getMessage(), e);
-            return new ArrayList<>();
-        }
+    private Mono<JsonNode> fetchJqlPage(String jql, String fields, String expand, String nextPageToken) {
+        return jiraWebClient.get()
+                .uri(uriBuilder -> {
+                    uriBuilder.path("/rest/api/3/search/jql")
+                            .queryParam("jql", jql)
+                            .queryParam("maxResults", searchPageSize)
+                            .queryParam("fields", fields);
+                    if (expand != null) {
+                        uriBuilder.queryParam("expand", expand);
+                    }
+                    if (nextPageToken != null) {
+                        uriBuilder.queryParam("nextPageToken", nextPageToken);
+                    }
+                    return uriBuilder.build();
+                })
+                .retrieve()
+                // Decoded straight into a tree, without an intermediate String copy of the page
+                .bodyToMono(JsonNode.class)
+                .timeout(Duration.ofSeconds(30));
     }
 
     /**
      * ENHANCED: Fetch all sprints for the configured board with optional board ID
      */
     public List<Map<String, Object>> fetchSprints(String projectKey, String boardId) {
-        List<Map<String, Object>> allSprints = new ArrayList<>();
-        int startAt = 0;
-        int maxResults = 50; // Use Jira's default limit
-        boolean hasMore = true;
+        return fetchSprintsReactive(projectKey, boardId).block();
+    }
 
-        try {
-            logger.info("Starting paginated fetch for board: {} (Project: {})", boardId, projectKey);
+    /**
+     * Non-blocking variant of fetchSprints: pages are requested one after another as each response arrives
+     */
+    public Mono<List<Map<String, Object>>> fetchSprintsReactive(String projectKey, String boardId) {
+        return fetchSprintsReactive(projectKey, boardId, null);
+    }
 
-            while (hasMore) {
-                String url = String.format("/rest/agile/1.0/board/%s/sprint?startAt=%d&maxResults=%d",
-                        boardId != null ? boardId : jiraConfig.getJiraBoardId(), startAt, maxResults);
+    /**
+     * Fetch the board's sprints in the given states (Jira's comma separated "state" filter, e.g. "active,future");
+     * all sprints when state is null
+     */
+    public Mono<List<Map<String, Object>>> fetchSprintsReactive(String projectKey, String boardId, String state) {
+        String board = boardId != null ? boardId : jiraConfig.getJiraBoardId();
+        int maxResults = 50; // Use Jira's default limit
 
+        logger.info("Starting paginated fetch for board: {} (Project: {}, State: {})", boardId, projectKey, state != null ? state : "all");
 
-                logger.debug("Fetching sprints batch: startAt={}, maxResults={}", startAt, maxResults);
+        return fetchSprintPage(board, state, 0, maxResults)
+                .expand(page -> page.hasMore ? fetchSprintPage(board, state, page.nextStartAt, maxResults) : Mono.empty())
+                .flatMapIterable(page -> page.values)
+                .collectList()
+                .doOnNext(allSprints -> logger.info("Successfully fetched all {} sprints for board: {} (Project: {})",
+                        allSprints.size(), boardId, projectKey))
+                .doOnError(e -> logger.error("Error fetching sprints with pagination: {}", e.getMessage(), e));
+    }
 
-                // Make your existing WebClient call but with pagination parameters
-                ResponseEntity<Map> response = jiraWebClient.get()
-                        .uri(url)
-                        .retrieve()
-                        .toEntity(Map.class)
-                        .block();
+    @SuppressWarnings("unchecked")
+    private Mono<SprintPage> fetchSprintPage(String boardId, String state, int startAt, int maxResults) {
+        String url = String.format("/rest/agile/1.0/board/%s/sprint?startAt=%d&maxResults=%d",
+                boardId, startAt, maxResults);
+        if (state != null) {
+            url += "&state=" + state;
+        }
 
-                if (response != null && response.getBody() != null) {
-                    Map<String, Object> responseBody = response.getBody();
+        logger.debug("Fetching sprints batch: startAt={}, maxResults={}", startAt, maxResults);
 
+        return jiraWebClient.get()
+                .uri(url)
+                .retrieve()
+                .bodyToMono(Map.class)
+                .map(responseBody -> {
                     // Extract pagination info from response
                     Integer total = (Integer) responseBody.get("total");
                     Integer returnedMaxResults = (Integer) responseBody.get("maxResults");
-                    Integer returnedStartAt = (Integer) responseBody.get("startAt");
                     Boolean isLast = (Boolean) responseBody.get("isLast");
 
                     List<Map<String, Object>> values = (List<Map<String, Object>>) responseBody.get("values");
-
-                    if (values != null && !values.isEmpty()) {
-                        allSprints.addAll(values);
-                        logger.info("Batch {}: Fetched {} sprints (Total so far: {}/{})",
-                                (startAt / maxResults) + 1, values.size(), allSprints.size(), total);
+                    if (values == null) {
+                        values = new ArrayList<>();
+                    }
+                    else if (!values.isEmpty()) {
+                        logger.info("Batch {}: Fetched {} sprints (Total: {})",
+                                (startAt / maxResults) + 1, values.size(), total);
                     }
 
                     // Determine if there are more results
+                    boolean hasMore;
                     if (isLast != null) {
                         hasMore = !isLast;
                     }
                     else {
                         // Fallback: check if we've reached the total
-                        hasMore = total != null && allSprints.size() < total;
+                        hasMore = total != null && startAt + values.size() < total;
                     }
-
-                    // Update startAt for next batch
-                    if (hasMore) {
-                        startAt += (returnedMaxResults != null ? returnedMaxResults : maxResults);
-                    }
-
-                }
-                else {
+                    return new SprintPage(values, hasMore && !values.isEmpty(),
+                            startAt + (returnedMaxResults != null ? returnedMaxResults : maxResults));
+                })
+                .switchIfEmpty(Mono.fromSupplier(() -> {
                     logger.warn("Received null response from Jira API");
-                    hasMore = false;
-                }
-            }
-
-            logger.info("Successfully fetched all {} sprints for board: {} (Project: {})",
-                    allSprints.size(), boardId, projectKey);
-
-            return allSprints;
-
-        }
-        catch (Exception e) {
-            logger.error("Error fetching sprints with pagination: {}", e.getMessage(), e);
-            throw e;
-        }
+                    return new SprintPage(new ArrayList<>(), false, startAt);
+                }));
     }
 
     /**
      * NEW: Global keyword search across all issues in a project with optional sprint filter
      */
     public Map<String, Object> searchKeywordGlobally(String keyword, String jiraProjectKey, String sprintId) {
-        if (!jiraConfig.isConfigured() || keyword == null || keyword.trim().isEmpty()) {
-            return createEmptySearchResult(keyword);
-        }
-
-        try {
-            // Use provided project key or fall back to default
-            String projectKey = (jiraProjectKey != null && !jiraProjectKey.trim().isEmpty())
-                    ? jiraProjectKey
-                    : jiraConfig.getJiraProjectKey();
-
-            // Build JQL query with optional sprint filter
-            String jql;
-            if (sprintId != null && !sprintId.trim().isEmpty()) {
-                // Search in specific sprint
-                jql = String.format("project = %s AND sprint = %s AND (summary ~ \"%s\" OR description ~ \"%s\" OR comment ~ \"%s\")",
-                        projectKey, sprintId, keyword, keyword, keyword);
-            }
-            else {
-                // Search in entire project
-                jql = String.format("project = %s AND (summary ~ \"%s\" OR description ~ \"%s\" OR comment ~ \"%s\")",
-                        projectKey, keyword, keyword, keyword);
-            }
-
-            logger.info("Performing global keyword search for '{}' in project: {} sprint: {}",
-                    keyword, projectKey, sprintId != null ? sprintId : "ALL");
-
-            String response = jiraWebClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/rest/api/3/search/jql")
-                            .queryParam("jql", jql)
-                            .queryParam("maxResults", 1000)
-                            .queryParam("fields", "key,summary,issuetype,status,priority")
-                            .build())
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .timeout(Duration.ofSeconds(30))
-                    .block();
-
-            return parseGlobalSearchResponse(response, keyword);
+        return searchKeywordGloballyReactive(keyword, jiraProjectKey, sprintId).block();
+    }
 
-        }
-        catch (WebClientResponseException e) {
-            logger.error("Error performing global keyword search: {} - {}",
-                    e.getStatusCode(), e.getResponseBodyAsString());
-            return createEmptySearchResult(keyword);
-        }
-        catch (Exception e) {
-            logger.error("Unexpected error performing global keyword search: {}", e.getMessage(), e);
-            return createEmptySearchResult(keyword);
-        }
+    /**
+     * Non-blocking variant of searchKeywordGlobally; errors resolve to an empty search result
+     */
+    public Mono<Map<String, Object>> searchKeywordGloballyReactive(String keyword, String jiraProjectKey, String sprintId) {
+        if (!jiraConfig.isConfigured() || keyword == null || keyword.trim().isEmpty()) {
+            return Mono.just(createEmptySearchResult(keyword));
+        }
+
+        // Use provided project key or fall back to default
+        String projectKey = (jiraProjectKey != null && !jiraProjectKey.trim().isEmpty())
+                ? jiraProjectKey
+                : jiraConfig.getJiraProjectKey();
+
+        // Build JQL query with optional sprint filter
+        String jql;
+        if (sprintId != null && !sprintId.trim().isEmpty()) {
+            // Search in specific sprint
+            jql = String.format("project = %s AND sprint = %s AND (summary ~ \"%s\" OR description ~ \"%s\" OR comment ~ \"%s\")",
+                    projectKey, sprintId, keyword, keyword, keyword);
+        }
+        else {
+            // Search in entire project
+            jql = String.format("project = %s AND (summary ~ \"%s\" OR description ~ \"%s\" OR comment ~ \"%s\")",
+                    projectKey, keyword, keyword, keyword);
+        }
+
+        logger.info("Performing global keyword search for '{}' in project: {} sprint: {}",
+                keyword, projectKey, sprintId != null ? sprintId : "ALL");
+
+        // Comment bodies come back embedded, so no per-issue comment request is needed
+        return searchJqlPages(jql, "key,summary,issuetype,status,priority,description,comment", null)
+                .concatMap(page -> countRemainingComments(page.path("issues"), keyword)
+                        .map(remainingCommentOccurrences -> collectMatchingIssues(page, keyword, remainingCommentOccurrences)))
+                .flatMapIterable(matchingIssues -> matchingIssues)
+                .collectList()
+                .map(matchingIssues -> buildGlobalSearchResult(keyword, matchingIssues))
+                .onErrorResume(WebClientResponseException.class, e -> {
+                    logger.error("Error performing global keyword search: {} - {}",
+                            e.getStatusCode(), e.getResponseBodyAsString());
+                    return Mono.just(createEmptySearchResult(keyword));
+                })
+                .onErrorResume(e -> {
+                    logger.error("Unexpected error performing global keyword search: {}", e.getMessage(), e);
+                    return Mono.just(createEmptySearchResult(keyword));
+                });
     }
 
     /**
@@ -247,7 +322,7 @@ public class JiraIntegrationService {
                     .timeout(Duration.ofSeconds(15))
                     .block();
 
-            return countKeywordInComments(response, keyword);
+            return countKeywordInComments(objectMapper.readTree(response).path("comments"), keyword);
 
         }
         catch (WebClientResponseException e) {
@@ -262,20 +337,14 @@ public class JiraIntegrationService {
     }
 
     /**
-     * Parse global search response with detailed occurrence counting
+     * Matching issues of one search page with their keyword occurrence counts
      */
-    private Map<String, Object> parseGlobalSearchResponse(String response, String keyword) {
-        Map<String, Object> result = new HashMap<>();
+    private List<Map<String, Object>> collectMatchingIssues(JsonNode page, String keyword,
+                                                            Map<String, Integer> remainingCommentOccurrences) {
         List<Map<String, Object>> matchingIssues = new ArrayList<>();
-        int totalCount = 0;
-        int totalOccurrences = 0;
-
-        try {
-            JsonNode rootNode = objectMapper.readTree(response);
-            JsonNode issuesNode = rootNode.path("issues");
-            totalCount = rootNode.path("total").asInt();
 
-            for (JsonNode issueNode : issuesNode) {
+        for (JsonNode issueNode : page.path("issues")) {
+            try {
                 Map<String, Object> issue = new HashMap<>();
                 String issueKey = issueNode.path("key").asText();
                 issue.put("key", issueKey);
@@ -298,51 +367,103 @@ public class JiraIntegrationService {
                         countKeywordOccurrences(description, keyword);
 
                 // Add comment occurrences
-                int commentOccurrences = searchKeywordInComments(issueKey, keyword);
-                issueOccurrences += commentOccurrences;
+                issueOccurrences += countKeywordInComments(fields.path("comment").path("comments"), keyword);
+                issueOccurrences += remainingCommentOccurrences.getOrDefault(issueKey, 0);
 
                 issue.put("occurrences", issueOccurrences);
-                totalOccurrences += issueOccurrences;
                 if (issueOccurrences > 0) {
-                    totalCount++;
                     matchingIssues.add(issue);
                 }
             }
+            catch (Exception e) {
+                logger.error("Error parsing global search issue {}: {}", issueNode.path("key").asText(), e.getMessage(), e);
+            }
+        }
 
-            result.put("keyword", keyword);
-            result.put("totalCount", totalCount);
-            result.put("totalOccurrences", totalOccurrences);
-            result.put("matchingIssues", matchingIssues);
-            result.put("searchDate", new Date());
+        return matchingIssues;
+    }
 
-            logger.info("Global search for '{}' found {} matching issues with {} total occurrences",
-                    keyword, totalCount, totalOccurrences);
+    private Map<String, Object> buildGlobalSearchResult(String keyword, List<Map<String, Object>> matchingIssues) {
+        int totalOccurrences = matchingIssues.stream().mapToInt(issue -> (Integer) issue.get("occurrences")).sum();
 
-        }
-        catch (Exception e) {
-            logger.error("Error parsing global search response: {}", e.getMessage(), e);
-            return createEmptySearchResult(keyword);
-        }
+        Map<String, Object> result = new HashMap<>();
+        result.put("keyword", keyword);
+        result.put("totalCount", matchingIssues.size());
+        result.put("totalOccurrences", totalOccurrences);
+        result.put("matchingIssues", matchingIssues);
+        result.put("searchDate", new Date());
 
+        logger.info("Global search for '{}' found {} matching issues with {} total occurrences",
+                keyword, matchingIssues.size(), totalOccurrences);
         return result;
     }
 
     /**
-     * Count keyword occurrences in text
+     * Fetch and count the comments the search response left out, for every issue whose embedded comment page
+     * is incomplete. Requests run concurrently up to jira.search.comment-concurrency; a failed issue counts 0.
+     */
+    private Mono<Map<String, Integer>> countRemainingComments(JsonNode issuesNode, String keyword) {
+        List<JsonNode> truncated = new ArrayList<>();
+        for (JsonNode issueNode : issuesNode) {
+            JsonNode commentField = issueNode.path("fields").path("comment");
+            if (commentField.path("total").asInt(0) > commentField.path("comments").size()) {
+                truncated.add(issueNode);
+            }
+        }
+        if (truncated.isEmpty()) {
+            return Mono.just(Collections.emptyMap());
+        }
+
+        logger.debug("Fetching remaining comments for {} issues", truncated.size());
+        return Flux.fromIterable(truncated)
+                .flatMap(issueNode -> {
+                    String issueKey = issueNode.path("key").asText();
+                    int startAt = issueNode.path("fields").path("comment").path("comments").size();
+                    return fetchCommentPage(issueKey, startAt)
+                            .expand(page -> {
+                                int next = page.path("startAt").asInt() + page.path("comments").size();
+                                return page.path("comments").size() > 0 && next < page.path("total").asInt()
+                                        ? fetchCommentPage(issueKey, next) : Mono.empty();
+                            })
+                            .map(page -> countKeywordInComments(page.path("comments"), keyword))
+                            .reduce(0, Integer::sum)
+                            .onErrorResume(e -> {
+                                logger.warn("Error fetching comments for issue {}: {}", issueKey, e.getMessage());
+                                return Mono.just(0);
+                            })
+                            .map(count -> Map.entry(issueKey, count));
+                }, Math.max(1, commentConcurrency))
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue);
+    }
+
+    private Mono<JsonNode> fetchCommentPage(String issueKey, int startAt) {
+        return jiraWebClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/rest/api/3/issue/{issueKey}/comment")
+                        .queryParam("startAt", startAt)
+                        .queryParam("maxResults", 100)
+                        .build(issueKey))
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .timeout(Duration.ofSeconds(15));
+    }
+
+    /**
+     * Count case-insensitive keyword occurrences in text, without building lower-cased copies
      */
     private int countKeywordOccurrences(String text, String keyword) {
         if (text == null || keyword == null || text.isEmpty() || keyword.isEmpty()) {
             return 0;
         }
 
-        String lowerText = text.toLowerCase();
-        String lowerKeyword = keyword.toLowerCase();
         int count = 0;
-        int index = 0;
-
-        while ((index = lowerText.indexOf(lowerKeyword, index)) != -1) {
-            count++;
-            index += lowerKeyword.length();
+        int keywordLength = keyword.length();
+        int last = text.length() - keywordLength;
+        for (int index = 0; index <= last; index++) {
+            if (text.regionMatches(true, index, keyword, 0, keywordLength)) {
+                count++;
+                index += keywordLength - 1;
+            }
         }
 
         return count;
@@ -364,11 +485,10 @@ public class JiraIntegrationService {
     /**
      * Parse Jira API response and convert to DTOs
      */
-    private List<JiraIssueDto> parseJiraResponse(String response, String sprintId) {
+    private List<JiraIssueDto> parseJiraResponse(JsonNode rootNode, String sprintId) {
         List<JiraIssueDto> issues = new ArrayList<>();
 
         try {
-            JsonNode rootNode = objectMapper.readTree(response);
             JsonNode issuesNode = rootNode.path("issues");
 
             for (JsonNode issueNode : issuesNode) {
@@ -589,27 +709,14 @@ public class JiraIntegrationService {
     }
 
     /**
-     * Count keyword occurrences in comments
+     * Count keyword occurrences in a list of comment nodes
      */
-    private int countKeywordInComments(String response, String keyword) {
+    private int countKeywordInComments(JsonNode commentsNode, String keyword) {
         int count = 0;
 
         try {
-            JsonNode rootNode = objectMapper.readTree(response);
-            JsonNode commentsNode = rootNode.path("comments");
-
-            String lowerKeyword = keyword.toLowerCase();
-
             for (JsonNode commentNode : commentsNode) {
-                String commentBody = getTextValue(commentNode.path("body"));
-                if (commentBody != null) {
-                    String lowerComment = commentBody.toLowerCase();
-                    int index = 0;
-                    while ((index = lowerComment.indexOf(lowerKeyword, index)) != -1) {
-                        count++;
-                        index += lowerKeyword.length();
-                    }
-                }
+                count += countKeywordOccurrences(getTextValue(commentNode.path("body")), keyword);
             }
 
             logger.debug("Found {} occurrences of keyword '{}' in comments", count, keyword);
@@ -721,6 +828,7 @@ public class JiraIntegrationService {
                 if (items.isMissingNode() || !items.isArray()) {
                     continue;
                 }
+                LocalDateTime linkedAt = parseChangelogTimestamp(history.path("created").asText(null));
                 for (JsonNode item : items) {
                     String field = item.path("field").asText("");
                     if (!"RemoteWorkItemLink".equals(field) && !"Link".equals(field)) {
@@ -740,6 +848,7 @@ public class JiraIntegrationService {
                             String enhancedTitle = parsedId + " - " + jiraSummary;
                             dto.setQtestTitle(enhancedTitle);
                         }
+                        dto.setLinkedAt(linkedAt);
                         testCases.add(dto);
                     }
                 }
@@ -751,6 +860,24 @@ public class JiraIntegrationService {
         return testCases;
     }
 
+    /**
+     * Parse a changelog timestamp into server local time; null when absent or in an unexpected format
+     */
+    private LocalDateTime parseChangelogTimestamp(String created) {
+        if (created == null || created.isEmpty()) {
+            return null;
+        }
+        try {
+            return OffsetDateTime.parse(created, CHANGELOG_TIMESTAMP)
+                    .atZoneSameInstant(ZoneId.systemDefault())
+                    .toLocalDateTime();
+        }
+        catch (DateTimeParseException e) {
+            logger.debug("Unparseable changelog timestamp: {}", created);
+            return null;
+        }
+    }
+
     /**
      * Extract title from a toString like: This work item links to "TC-473 (qTest)"
      */
@@ -784,4 +911,19 @@ public class JiraIntegrationService {
         }
         return null;
     }
+
+    /**
+     * One page of the board sprint listing and where the next page starts
+     */
+    private static final class SprintPage {
+        private final List<Map<String, Object>> values;
+        private final boolean hasMore;
+        private final int nextStartAt;
+
+        private SprintPage(List<Map<String, Object>> values, boolean hasMore, int nextStartAt) {
+            this.values = values;
+            this.hasMore = hasMore;
+            this.nextStartAt = nextStartAt;
+        }
+    }
 }
@@ -0,0 +1,208 @@
+package com.qa.automation.service;
+
+import com.qa.automation.config.JiraConfig;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * Sprint list cache per board and project. Closed sprints never change, so they are crawled once per
+ * closed-ttl; active and future sprints are a single small request kept for active-ttl. Entries past their
+ * TTL are served stale while one background request revalidates them, until max-stale, after which callers
+ * wait for the fresh list. When a sprint leaves the active list the closed list is revalidated too, so a
+ * sprint that just closed does not drop out of the list for a day.
+ */
+@Service
+@RequiredArgsConstructor
+public class JiraSprintCacheService {
+
+    private static final Logger logger = LoggerFactory.getLogger(JiraSprintCacheService.class);
+
+    private static final String CLOSED_STATES = "closed";
+    private static final String OPEN_STATES = "active,future";
+
+    private final JiraIntegrationService jiraIntegrationService;
+
+    private final JiraConfig jiraConfig;
+
+    @Value("${jira.sprint-cache.closed-ttl-ms:86400000}")
+    private long closedTtlMs;
+    @Value("${jira.sprint-cache.active-ttl-ms:60000}")
+    private long activeTtlMs;
+    @Value("${jira.sprint-cache.max-stale-ms:900000}")
+    private long maxStaleMs;
+
+    private final Map<String, BoardSprints> boards = new ConcurrentHashMap<>();
+
+    public List<Map<String, Object>> getSprints(String jiraProjectKey, String jiraBoardId) {
+        return getSprintsReactive(jiraProjectKey, jiraBoardId).block();
+    }
+
+    /**
+     * Closed sprints followed by active and future sprints, in Jira's order within each group
+     */
+    public Mono<List<Map<String, Object>>> getSprintsReactive(String jiraProjectKey, String jiraBoardId) {
+        String projectKey = hasText(jiraProjectKey) ? jiraProjectKey : null;
+        String boardId = hasText(jiraBoardId) ? jiraBoardId : null;
+        BoardSprints board = boards.computeIfAbsent(cacheKey(projectKey, boardId), key -> new BoardSprints(projectKey, boardId));
+
+        return Mono.zip(board.closed.get(closedTtlMs), board.open.get(activeTtlMs))
+                .map(sprints -> {
+                    List<Map<String, Object>> all = new ArrayList<>(sprints.getT1().size() + sprints.getT2().size());
+                    all.addAll(sprints.getT1());
+                    all.addAll(sprints.getT2());
+                    return all;
+                });
+    }
+
+    /**
+     * Drop cached sprint lists for one board/project pair, or every cached list when both are null
+     */
+    public int invalidate(String jiraProjectKey, String jiraBoardId) {
+        if (!hasText(jiraProjectKey) && !hasText(jiraBoardId)) {
+            int cleared = boards.size();
+            boards.clear();
+            logger.info("Cleared all {} cached sprint lists", cleared);
+            return cleared;
+        }
+        String key = cacheKey(hasText(jiraProjectKey) ? jiraProjectKey : null, hasText(jiraBoardId) ? jiraBoardId : null);
+        int cleared = boards.remove(key) != null ? 1 : 0;
+        logger.info("Cleared cached sprint list for {}", key);
+        return cleared;
+    }
+
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new HashMap<>();
+        status.put("closedTtlMs", closedTtlMs);
+        status.put("activeTtlMs", activeTtlMs);
+        status.put("maxStaleMs", maxStaleMs);
+        List<Map<String, Object>> entries = new ArrayList<>();
+        boards.forEach((key, board) -> {
+            Map<String, Object> entry = new HashMap<>();
+            entry.put("key", key);
+            entry.put("closedSprints", board.closed.size());
+            entry.put("closedAgeMs", board.closed.ageMs());
+            entry.put("openSprints", board.open.size());
+            entry.put("openAgeMs", board.open.ageMs());
+            entries.add(entry);
+        });
+        status.put("entries", entries);
+        return status;
+    }
+
+    // Keyed by the effective board and project, so a request naming the defaults shares the entry of one that omits them
+    private String cacheKey(String projectKey, String boardId) {
+        return (boardId != null ? boardId : jiraConfig.getJiraBoardId()) + "|"
+                + (projectKey != null ? projectKey : jiraConfig.getJiraProjectKey());
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.trim().isEmpty();
+    }
+
+    private static Set<Object> sprintIds(List<Map<String, Object>> sprints) {
+        Set<Object> ids = new HashSet<>();
+        for (Map<String, Object> sprint : sprints) {
+            ids.add(sprint.get("id"));
+        }
+        return ids;
+    }
+
+    /**
+     * Both cached segments of one board/project pair
+     */
+    private final class BoardSprints {
+
+        private final CachedSprints closed;
+        private final CachedSprints open;
+
+        private BoardSprints(String projectKey, String boardId) {
+            this.closed = new CachedSprints("closed sprints of board " + boardId,
+                    () -> jiraIntegrationService.fetchSprintsReactive(projectKey, boardId, CLOSED_STATES));
+            this.open = new CachedSprints("open sprints of board " + boardId,
+                    () -> jiraIntegrationService.fetchSprintsReactive(projectKey, boardId, OPEN_STATES)
+                            .doOnNext(this::revalidateClosedOnTransition));
+        }
+
+        private void revalidateClosedOnTransition(List<Map<String, Object>> freshOpen) {
+            List<Map<String, Object>> previousOpen = open.value;
+            if (previousOpen != null && !sprintIds(freshOpen).containsAll(sprintIds(previousOpen))) {
+                logger.info("A sprint left the active list; revalidating closed sprints");
+                closed.refreshInBackground();
+            }
+        }
+    }
+
+    /**
+     * One cached sprint list with single-flight loading: concurrent callers share one in-flight request
+     */
+    private final class CachedSprints {
+
+        private final String description;
+        private final Supplier<Mono<List<Map<String, Object>>>> loader;
+
+        private volatile List<Map<String, Object>> value;
+        private volatile long fetchedAt;
+        private Mono<List<Map<String, Object>>> inFlight;
+
+        private CachedSprints(String description, Supplier<Mono<List<Map<String, Object>>>> loader) {
+            this.description = description;
+            this.loader = loader;
+        }
+
+        private Mono<List<Map<String, Object>>> get(long ttlMs) {
+            List<Map<String, Object>> cached = value;
+            long age = System.currentTimeMillis() - fetchedAt;
+            if (cached != null && age < ttlMs) {
+                return Mono.just(cached);
+            }
+            if (cached != null && age < ttlMs + maxStaleMs) {
+                // Stale while revalidate: answer now, refresh in the background
+                refreshInBackground();
+                return Mono.just(cached);
+            }
+            return load();
+        }
+
+        private synchronized Mono<List<Map<String, Object>>> load() {
+            if (inFlight == null) {
+                inFlight = loader.get()
+                        .doOnNext(fresh -> {
+                            value = fresh;
+                            fetchedAt = System.currentTimeMillis();
+                        })
+                        .doFinally(signal -> clearInFlight())
+                        .cache();
+            }
+            return inFlight;
+        }
+
+        private synchronized void clearInFlight() {
+            inFlight = null;
+        }
+
+        private void refreshInBackground() {
+            load().subscribe(fresh -> { }, e -> logger.warn("Background refresh of {} failed: {}", description, e.getMessage()));
+        }
+
+        private int size() {
+            List<Map<String, Object>> cached = value;
+            return cached != null ? cached.size() : 0;
+        }
+
+        private Long ageMs() {
+            return value != null ? System.currentTimeMillis() - fetchedAt : null;
+        }
+    }
+}
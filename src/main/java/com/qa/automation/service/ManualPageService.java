@@ -6,23 +6,38 @@ import com.qa.automation.dto.JiraTestCaseDto;
 import com.qa.automation.exception.ResourceNotFoundException;
 import com.qa.automation.model.*;
 import com.qa.automation.repository.DomainRepository;
+import com.qa.automation.repository.JiraIssueBatchRepository;
 import com.qa.automation.repository.JiraIssueRepository;
+import com.qa.automation.repository.JiraSprintSyncStateRepository;
 import com.qa.automation.repository.JiraTestCaseRepository;
 import com.qa.automation.repository.ProjectRepository;
 import com.qa.automation.repository.TesterRepository;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 @Service
 @Transactional
@@ -33,45 +48,165 @@ public class ManualPageService {
 
 
     private final JiraIntegrationService jiraIntegrationService;
+    private final JiraSprintCacheService jiraSprintCacheService;
     private final LookupService lookupService;
 
     private final TestCaseService testCaseService;
     private final JiraIssueRepository jiraIssueRepository;
+    private final JiraIssueBatchRepository jiraIssueBatchRepository;
+    private final JiraSprintSyncStateRepository jiraSprintSyncStateRepository;
     private final JiraTestCaseRepository jiraTestCaseRepository;
     private final ProjectRepository projectRepository;
     private final TesterRepository testerRepository;
     private final DomainRepository domainRepository;
     private final QTestService qTestService;
+    private final QTestIndexService qTestIndexService;
     private final DataInitializationService dataInitializationService;
     private final JiraConfig jiraConfig;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${jira.sync.incremental-overlap-minutes:5}")
+    private int incrementalOverlapMinutes;
+
+    // Concurrent qTest lookups while the local qTest index is not populated yet
+    @Value("${qtest.enrichment.concurrency:6}")
+    private int enrichmentConcurrency;
 
     /**
      * ENHANCED: Fetch and sync issues from a specific sprint with optional project configuration
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<JiraIssueDto> fetchAndSyncSprintIssues(String sprintId, String jiraProjectKey, String jiraBoardId) {
-        logger.info("Fetching and syncing issues from sprint: {} (Project: {}, Board: {})",
-                sprintId, jiraProjectKey, jiraBoardId);
-
-        // Fetch issues from Jira with optional project configuration
-        List<JiraIssueDto> jiraIssues = jiraIntegrationService.fetchIssuesFromSprint(
-                sprintId, jiraProjectKey, jiraBoardId);
+        return fetchAndSyncSprintIssues(sprintId, jiraProjectKey, jiraBoardId, false);
+    }
 
-        // Sync with database
+    /**
+     * Fetch and sync a sprint, optionally incrementally. An incremental sync only requests issues updated since
+     * the sprint's last complete sync and only applies changelog links added after it, then returns the stored
+     * sprint so callers get the same view as after a full sync. Without a recorded cursor it falls back to a
+     * full sync.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<JiraIssueDto> fetchAndSyncSprintIssues(String sprintId, String jiraProjectKey, String jiraBoardId,
+                                                       boolean incremental) {
+        JiraSprintSyncState syncState = jiraSprintSyncStateRepository.findBySprintId(sprintId).orElse(null);
+        // Look back a little beyond the cursor for clock skew between us and Jira; re-reading a link is harmless
+        // because syncLinkedTestCases skips titles the issue already has
+        LocalDateTime cursor = incremental && syncState != null && syncState.getLastSyncedAt() != null
+                ? syncState.getLastSyncedAt().minusMinutes(incrementalOverlapMinutes)
+                : null;
+        LocalDateTime syncStartedAt = LocalDateTime.now();
+        logger.info("Fetching and syncing issues from sprint: {} (Project: {}, Board: {}, Updated since: {})",
+                sprintId, jiraProjectKey, jiraBoardId, cursor != null ? cursor : "full sync");
+
+        // Fetch issues from Jira page by page and sync each page as it arrives
         List<JiraIssueDto> syncedIssues = new ArrayList<>();
-        for (JiraIssueDto issueDto : jiraIssues) {
-            try {
-                JiraIssueDto syncedIssue = syncIssueWithDatabase(issueDto);
-                syncedIssues.add(syncedIssue);
+        try {
+            for (List<JiraIssueDto> page : jiraIntegrationService.streamIssuesUpdatedSince(sprintId, jiraProjectKey, jiraBoardId, cursor)
+                    .toIterable(1)) {
+                syncedIssues.addAll(syncSprintIssues(sprintId, page, cursor));
             }
-            catch (Exception e) {
-                logger.error("Error syncing issue {}: {}", issueDto.getJiraKey(), e.getMessage(), e);
+        }
+        catch (Exception e) {
+            // Keep what was synced; the cursor stays where it was so the missed pages are picked up next time
+            logger.error("Error fetching Jira issues from sprint {} after {} issues: {}", sprintId, syncedIssues.size(), e.getMessage(), e);
+            return cursor != null ? transactionTemplate.execute(status -> getSprintIssues(sprintId)) : syncedIssues;
+        }
+
+        if (jiraConfig.isConfigured()) {
+            if (syncState == null) {
+                syncState = new JiraSprintSyncState();
+                syncState.setSprintId(sprintId);
+            }
+            syncState.setProjectKey(jiraProjectKey);
+            syncState.setLastSyncedAt(syncStartedAt);
+            syncState.setLastIssueCount(syncedIssues.size());
+            jiraSprintSyncStateRepository.save(syncState);
+        }
+
+        logger.info("Synced {} issues in total for sprint {}", syncedIssues.size(), sprintId);
+        return cursor != null ? transactionTemplate.execute(status -> getSprintIssues(sprintId)) : syncedIssues;
+    }
+
+    /**
+     * Sync issues already fetched from Jira with the database
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<JiraIssueDto> syncSprintIssues(String sprintId, List<JiraIssueDto> jiraIssues) {
+        return syncSprintIssues(sprintId, jiraIssues, null);
+    }
+
+    /**
+     * Sync fetched issues in three stages so qTest latency never holds a transaction open: collect the TC links
+     * that are new to the database (one read), resolve them against qTest outside any transaction, then apply
+     * everything in one short write transaction. Already stored issues only take the links added after
+     * linkedSince (all when null).
+     */
+    private List<JiraIssueDto> syncSprintIssues(String sprintId, List<JiraIssueDto> jiraIssues, LocalDateTime linkedSince) {
+        if (jiraIssues.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        // Stage 1: the links each issue brings, and which of them are not stored yet
+        Map<String, Set<String>> storedTitles = findStoredLinkTitles(jiraIssues);
+        Map<String, List<JiraTestCaseDto>> linksByIssue = new HashMap<>();
+        Map<String, String> titlesToResolve = new LinkedHashMap<>();
+        for (JiraIssueDto issueDto : jiraIssues) {
+            Set<String> stored = storedTitles.get(issueDto.getJiraKey());
+            List<JiraTestCaseDto> links = selectLinksToSync(issueDto, linkedSince, stored != null);
+            linksByIssue.put(issueDto.getJiraKey(), links);
+            for (JiraTestCaseDto link : links) {
+                if (stored == null || !stored.contains(link.getQtestTitle())) {
+                    titlesToResolve.putIfAbsent(link.getQtestId().toUpperCase(Locale.ROOT), link.getQtestTitle());
+                }
             }
         }
 
+        // Stage 2: qTest lookups, outside any transaction
+        long resolveStarted = System.currentTimeMillis();
+        Map<String, QTestTestCase> resolved = resolveQTestTestCases(titlesToResolve);
+        logger.debug("Resolved {} of {} new qTest links for sprint {} in {} ms",
+                resolved.size(), titlesToResolve.size(), sprintId, System.currentTimeMillis() - resolveStarted);
+
+        // Stage 3: one short write transaction
+        List<JiraIssueDto> syncedIssues = transactionTemplate.execute(status -> applySprintIssues(jiraIssues, linksByIssue, resolved));
+
         logger.info("Synced {} issues for sprint {}", syncedIssues.size(), sprintId);
         return syncedIssues;
     }
 
+    /**
+     * Titles of the test cases already linked to each stored issue; issues not stored yet are absent
+     */
+    private Map<String, Set<String>> findStoredLinkTitles(List<JiraIssueDto> jiraIssues) {
+        List<String> jiraKeys = jiraIssues.stream()
+                .map(JiraIssueDto::getJiraKey)
+                .collect(Collectors.toList());
+        Map<String, Set<String>> storedTitles = new HashMap<>();
+        for (Object[] row : jiraIssueRepository.findLinkedTitlesByJiraKeys(jiraKeys)) {
+            Set<String> titles = storedTitles.computeIfAbsent((String) row[0], key -> new HashSet<>());
+            if (row[1] != null) {
+                titles.add((String) row[1]);
+            }
+        }
+        return storedTitles;
+    }
+
+    /**
+     * The issue's TC-nnn links to sync. An issue we already hold has every link older than linkedSince; one new
+     * to us (e.g. just moved into the sprint) takes them all.
+     */
+    private List<JiraTestCaseDto> selectLinksToSync(JiraIssueDto issueDto, LocalDateTime linkedSince, boolean issueStored) {
+        if (issueDto.getLinkedTestCases() == null) {
+            return Collections.emptyList();
+        }
+        return issueDto.getLinkedTestCases().stream()
+                .filter(dto -> dto.getQtestId() != null && dto.getQtestId().matches("(?i)TC-\\d+"))
+                .filter(dto -> linkedSince == null || !issueStored || dto.getLinkedAt() == null
+                        || dto.getLinkedAt().isAfter(linkedSince))
+                .collect(Collectors.toList());
+    }
+
     public List<JiraIssueDto> getSprintIssues(String sprintId) {
         List<JiraIssue> issues = jiraIssueRepository.findBySprintIdWithLinkedTestCases(sprintId);
         return issues.stream()
@@ -159,7 +294,7 @@ public class ManualPageService {
      * ENHANCED: Get all available sprints with optional project configuration
      */
     public List<Map<String, Object>> getAvailableSprints(String jiraProjectKey, String jiraBoardId) {
-        return jiraIntegrationService.fetchSprints(jiraProjectKey, jiraBoardId);
+        return jiraSprintCacheService.getSprints(jiraProjectKey, jiraBoardId);
     }
 
     /**
@@ -239,31 +374,71 @@ public class ManualPageService {
     }
 
     /**
-     * Sync Jira issue with database
+     * Write a page of issues with a fixed number of statements: one IN query loads the stored issues and their
+     * links, new issues go in as multi-row INSERTs, and stored issues are only touched when a field changed
+     * (the resulting UPDATEs are JDBC-batched by Hibernate). Must run inside a transaction.
      */
-    private JiraIssueDto syncIssueWithDatabase(JiraIssueDto issueDto) {
-        Optional<JiraIssue> existingIssue = jiraIssueRepository.findByJiraKey(issueDto.getJiraKey());
-
-        JiraIssue issue;
-        if (existingIssue.isPresent()) {
-            // Update existing issue
-            issue = existingIssue.get();
-            updateIssueFromDto(issue, issueDto);
+    private List<JiraIssueDto> applySprintIssues(List<JiraIssueDto> jiraIssues, Map<String, List<JiraTestCaseDto>> linksByIssue,
+                                                 Map<String, QTestTestCase> resolved) {
+        Set<String> jiraKeys = jiraIssues.stream()
+                .map(JiraIssueDto::getJiraKey)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Map<String, JiraIssue> issuesByKey = new HashMap<>();
+        for (JiraIssue issue : jiraIssueRepository.findByJiraKeyIn(jiraKeys)) {
+            issuesByKey.put(issue.getJiraKey(), issue);
         }
-        else {
-            // Create new issue
-            issue = createIssueFromDto(issueDto);
+
+        Map<String, JiraIssueDto> newIssues = new LinkedHashMap<>();
+        int changed = 0;
+        for (JiraIssueDto issueDto : jiraIssues) {
+            JiraIssue issue = issuesByKey.get(issueDto.getJiraKey());
+            if (issue == null) {
+                newIssues.putIfAbsent(issueDto.getJiraKey(), issueDto);
+            }
+            else if (hasIssueChanges(issue, issueDto)) {
+                // Dirty checking turns this into an UPDATE at flush; unchanged issues are never written
+                updateIssueFromDto(issue, issueDto);
+                changed++;
+            }
         }
 
-        JiraIssue savedIssue = jiraIssueRepository.save(issue);
+        if (!newIssues.isEmpty()) {
+            jiraIssueBatchRepository.insertAll(new ArrayList<>(newIssues.values()));
+            for (JiraIssue issue : jiraIssueRepository.findByJiraKeyIn(newIssues.keySet())) {
+                issuesByKey.put(issue.getJiraKey(), issue);
+            }
+        }
+        logger.debug("Issue upsert: {} inserted, {} updated, {} unchanged",
+                newIssues.size(), changed, issuesByKey.size() - newIssues.size() - changed);
 
-        // Sync linked test cases
-        List<JiraTestCaseDto> tcOnly = issueDto.getLinkedTestCases() == null ? Collections.emptyList() : issueDto.getLinkedTestCases().stream()
-                .filter(dto -> dto.getQtestId() != null && dto.getQtestId().matches("(?i)TC-\\d+"))
-                .collect(Collectors.toList());
-        syncLinkedTestCases(savedIssue, tcOnly);
+        List<JiraIssueDto> syncedIssues = new ArrayList<>();
+        for (JiraIssueDto issueDto : jiraIssues) {
+            JiraIssue issue = issuesByKey.get(issueDto.getJiraKey());
+            if (issue == null) {
+                logger.error("Error syncing issue {}: not found after insert", issueDto.getJiraKey());
+                continue;
+            }
+            try {
+                // Sync linked test cases
+                syncLinkedTestCases(issue, linksByIssue.getOrDefault(issueDto.getJiraKey(), Collections.emptyList()), resolved);
+                syncedIssues.add(convertToDto(issue));
+            }
+            catch (Exception e) {
+                logger.error("Error syncing issue {}: {}", issueDto.getJiraKey(), e.getMessage(), e);
+            }
+        }
+        return syncedIssues;
+    }
 
-        return convertToDto(savedIssue);
+    private boolean hasIssueChanges(JiraIssue issue, JiraIssueDto issueDto) {
+        return !Objects.equals(issue.getSummary(), issueDto.getSummary())
+                || !Objects.equals(issue.getAssignee(), issueDto.getAssignee())
+                || !Objects.equals(issue.getAssigneeDisplayName(), issueDto.getAssigneeDisplayName())
+                || !Objects.equals(issue.getSprintId(), issueDto.getSprintId())
+                || !Objects.equals(issue.getSprintName(), issueDto.getSprintName())
+                || !Objects.equals(issue.getIssueType(), issueDto.getIssueType())
+                || !Objects.equals(issue.getStatus(), issueDto.getStatus())
+                || !Objects.equals(issue.getPriority(), issueDto.getPriority());
     }
 
     /**
@@ -280,27 +455,10 @@ public class ManualPageService {
         issue.setPriority(issueDto.getPriority());
     }
 
-    /**
-     * Create new issue from DTO
-     */
-    private JiraIssue createIssueFromDto(JiraIssueDto issueDto) {
-        JiraIssue issue = new JiraIssue();
-        issue.setJiraKey(issueDto.getJiraKey());
-        issue.setSummary(issueDto.getSummary());
-        issue.setAssignee(issueDto.getAssignee());
-        issue.setAssigneeDisplayName(issueDto.getAssigneeDisplayName());
-        issue.setSprintId(issueDto.getSprintId());
-        issue.setSprintName(issueDto.getSprintName());
-        issue.setIssueType(issueDto.getIssueType());
-        issue.setStatus(issueDto.getStatus());
-        issue.setPriority(issueDto.getPriority());
-        return issue;
-    }
-
     /**
      * Sync linked test cases with enhanced QTest data retrieval
      */
-    private void syncLinkedTestCases(JiraIssue issue, List<JiraTestCaseDto> testCaseDtos) {
+    private void syncLinkedTestCases(JiraIssue issue, List<JiraTestCaseDto> testCaseDtos, Map<String, QTestTestCase> resolved) {
         // Remove any existing non-TC test cases for this issue (cleanup old description-derived entries)
         List<JiraTestCase> toRemove = issue.getLinkedTestCases().stream()
                 .filter(tc -> tc.getQtestId() == null || !tc.getQtestId().matches("(?i)TC-\\d+"))
@@ -322,8 +480,8 @@ public class ManualPageService {
                 testCase.setQtestId(testCaseDto.getQtestId());
                 testCase.setJiraIssue(issue);
 
-                // Enhanced: Fetch additional QTest data
-                enrichTestCaseWithQTestData(testCase, testCaseDto.getQtestTitle());
+                // Enhanced: Apply the QTest data resolved before the transaction
+                applyQTestData(testCase, resolved.get(testCaseDto.getQtestId().toUpperCase(Locale.ROOT)));
 
                 issue.addLinkedTestCase(testCase);
             }
@@ -331,69 +489,106 @@ public class ManualPageService {
     }
 
     /**
-     * Enrich test case with data from QTest
+     * Look up the qTest test case behind each TC key (value: the link title). Answered from the local index once
+     * it is populated; before that, through concurrent qTest searches bounded by qtest.enrichment.concurrency.
      */
-    private void enrichTestCaseWithQTestData(JiraTestCase testCase, String qtestTitle) {
+    private Map<String, QTestTestCase> resolveQTestTestCases(Map<String, String> titlesByTcId) {
+        Map<String, QTestTestCase> resolved = new ConcurrentHashMap<>();
         // Check if QTest service is available and configured
-        if (!jiraConfig.isQTestConfigured()) {
-            logger.debug("QTest not configured, skipping enrichment for test case: {}", qtestTitle);
-            return;
+        if (titlesByTcId.isEmpty() || !jiraConfig.isQTestConfigured()) {
+            return resolved;
         }
 
-        try {
-            // Check if QTest is authenticated before attempting to search
-            if (!qTestService.isAuthenticated() && !qTestService.testConnection()) {
-                logger.debug("QTest authentication not available, skipping enrichment for test case: {}", qtestTitle);
-                return;
-            }
+        if (qTestIndexService.isReady()) {
+            titlesByTcId.forEach((tcId, qtestTitle) -> {
+                QTestTestCase indexed = qTestIndexService.findByPid(tcId)
+                        .orElseGet(() -> qTestIndexService.findByTitle(qtestTitle).stream().findFirst().orElse(null));
+                if (indexed != null) {
+                    resolved.put(tcId, indexed);
+                }
+                else {
+                    logger.debug("No indexed QTest test case found for: {}", qtestTitle);
+                }
+            });
+            return resolved;
+        }
+
+        // Check if QTest is authenticated before attempting to search
+        if (!qTestService.isAuthenticated() && !qTestService.testConnection()) {
+            logger.debug("QTest authentication not available, skipping enrichment of {} test cases", titlesByTcId.size());
+            return resolved;
+        }
+
+        Flux.fromIterable(titlesByTcId.entrySet())
+                .flatMap(entry -> Mono.fromCallable(() -> searchQTestTestCase(entry.getValue()))
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .doOnNext(testCase -> resolved.put(entry.getKey(), testCase)), enrichmentConcurrency)
+                .blockLast();
+        return resolved;
+    }
 
+    /**
+     * Find a test case in QTest by title and fetch its details; null when there is no match
+     */
+    private QTestTestCase searchQTestTestCase(String qtestTitle) {
+        try {
             // Search for the test case in QTest by title
             List<Map<String, Object>> searchResults = qTestService.searchTestCasesByTitle(qtestTitle);
+            if (searchResults.isEmpty()) {
+                logger.debug("No matching QTest test case found for title: {}", qtestTitle);
+                return null;
+            }
 
-            if (!searchResults.isEmpty()) {
-                // Get the first matching test case
-                Map<String, Object> qtestData = searchResults.get(0);
-                String testCaseId = (String) qtestData.get("id");
-
-                if (testCaseId != null) {
-                    // Fetch detailed test case information
-                    Map<String, Object> detailedTestCase = qTestService.fetchTestCaseDetails(testCaseId);
-
-                    if (!detailedTestCase.isEmpty()) {
-                        // Set QTest ID
-                        testCase.setQtestId(testCaseId);
-
-                        // Set assignee from QTest
-                        String assignee = (String) detailedTestCase.get("assignee");
-                        if (assignee != null && !assignee.isEmpty()) {
-                            testCase.setQtestAssignee(assignee);
-                        }
-
-                        // Set priority from QTest
-                        String priority = (String) detailedTestCase.get("priority");
-                        if (priority != null && !priority.isEmpty()) {
-                            testCase.setQtestPriority(priority);
-                        }
-
-                        // Set automation status from QTest
-                        String automationStatus = (String) detailedTestCase.get("automationStatus");
-                        if (automationStatus != null && !automationStatus.isEmpty()) {
-                            testCase.setQtestAutomationStatus(automationStatus);
-                        }
-
-                        logger.debug("Enriched test case '{}' with QTest data: assignee={}, priority={}, automationStatus={}",
-                                qtestTitle, assignee, priority, automationStatus);
-                    }
-                }
+            // Get the first matching test case
+            String testCaseId = (String) searchResults.get(0).get("id");
+            if (testCaseId == null) {
+                return null;
             }
-            else {
-                logger.debug("No matching QTest test case found for title: {}", qtestTitle);
+
+            // Fetch detailed test case information
+            Map<String, Object> detailedTestCase = qTestService.fetchTestCaseDetails(testCaseId);
+            if (detailedTestCase.isEmpty()) {
+                return null;
             }
 
+            QTestTestCase testCase = new QTestTestCase();
+            testCase.setId(Long.valueOf(testCaseId));
+            testCase.setName((String) detailedTestCase.get("name"));
+            testCase.setAssignee((String) detailedTestCase.get("assignee"));
+            testCase.setPriority((String) detailedTestCase.get("priority"));
+            testCase.setAutomationStatus((String) detailedTestCase.get("automationStatus"));
+            return testCase;
         }
         catch (Exception e) {
             logger.debug("Failed to enrich test case '{}' with QTest data: {}", qtestTitle, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Enrich test case with data from QTest
+     */
+    private void applyQTestData(JiraTestCase testCase, QTestTestCase qtestTestCase) {
+        if (qtestTestCase == null) {
+            return;
+        }
+
+        // Set QTest ID
+        testCase.setQtestId(qtestTestCase.getPid() != null ? qtestTestCase.getPid() : String.valueOf(qtestTestCase.getId()));
+
+        if (qtestTestCase.getAssignee() != null && !qtestTestCase.getAssignee().isEmpty()) {
+            testCase.setQtestAssignee(qtestTestCase.getAssignee());
         }
+        if (qtestTestCase.getPriority() != null && !qtestTestCase.getPriority().isEmpty()) {
+            testCase.setQtestPriority(qtestTestCase.getPriority());
+        }
+        if (qtestTestCase.getAutomationStatus() != null && !qtestTestCase.getAutomationStatus().isEmpty()) {
+            testCase.setQtestAutomationStatus(qtestTestCase.getAutomationStatus());
+        }
+
+        logger.debug("Enriched test case '{}' with QTest data: assignee={}, priority={}, automationStatus={}",
+                testCase.getQtestTitle(), qtestTestCase.getAssignee(), qtestTestCase.getPriority(),
+                qtestTestCase.getAutomationStatus());
     }
 
     /**
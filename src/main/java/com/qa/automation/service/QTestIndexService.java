@@ -0,0 +1,302 @@
+package com.qa.automation.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.qa.automation.config.JiraConfig;
+import com.qa.automation.model.QTestTestCase;
+import com.qa.automation.repository.QTestTestCaseBatchRepository;
+import com.qa.automation.repository.QTestTestCaseRepository;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Local index of the qTest project's test cases. The whole project is paged through once (and again every
+ * full-refresh-hours to drop deleted cases); in between only cases with a newer last_modified_date are
+ * requested. Rows are kept in qtest_test_cases so a restart resumes from the stored cursor, and lookups
+ * by TC key or title are answered from memory.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class QTestIndexService {
+
+    private final QTestService qTestService;
+
+    private final QTestTestCaseRepository qTestTestCaseRepository;
+
+    private final QTestTestCaseBatchRepository qTestTestCaseBatchRepository;
+
+    private final JiraConfig jiraConfig;
+
+    @Value("${qtest.index.enabled:true}")
+    private boolean enabled;
+    @Value("${qtest.index.page-size:500}")
+    private int pageSize;
+    @Value("${qtest.index.full-refresh-hours:24}")
+    private long fullRefreshHours;
+    // Look-back on the last_modified_date cursor so edits that land in the same second are not missed
+    @Value("${qtest.index.overlap-seconds:60}")
+    private long overlapSeconds;
+
+    private final Map<Long, IndexEntry> entriesById = new ConcurrentHashMap<>();
+    private final Map<String, IndexEntry> entriesByPid = new ConcurrentHashMap<>();
+    private final Object refreshLock = new Object();
+
+    private volatile boolean loaded;
+    private volatile boolean ready;
+    private volatile LocalDateTime lastFullRefreshAt;
+    private volatile LocalDateTime nextFullRefreshAt;
+    private volatile LocalDateTime lastRefreshAt;
+    private volatile String lastError;
+
+    @Scheduled(fixedDelayString = "${qtest.index.refresh-ms:300000}", initialDelayString = "${qtest.index.initial-delay-ms:20000}")
+    public void scheduledRefresh() {
+        if (!enabled || !jiraConfig.isQTestConfigured()) {
+            return;
+        }
+        refresh(false);
+    }
+
+    /**
+     * Bring the index up to date: a full pass when forced, when nothing is indexed yet or when the last full
+     * pass is older than full-refresh-hours, otherwise an incremental pass from the stored cursor
+     */
+    public Map<String, Object> refresh(boolean forceFull) {
+        synchronized (refreshLock) {
+            long started = System.currentTimeMillis();
+            try {
+                if (!loaded) {
+                    loadFromDatabase();
+                }
+                LocalDateTime cursor = qTestTestCaseRepository.findLatestModifiedDate();
+                boolean full = forceFull || cursor == null || !LocalDateTime.now().isBefore(nextFullRefreshAt);
+
+                int updated = full ? fullRefresh() : incrementalRefresh(cursor.minusSeconds(overlapSeconds));
+                if (updated >= 0) {
+                    lastRefreshAt = LocalDateTime.now();
+                    lastError = null;
+                    ready = true;
+                    log.info("qTest index {} refresh updated {} test cases in {} ms ({} indexed)",
+                            full ? "full" : "incremental", updated, System.currentTimeMillis() - started, entriesById.size());
+                }
+            }
+            catch (Exception e) {
+                lastError = e.getMessage();
+                log.error("qTest index refresh failed: {}", e.getMessage(), e);
+            }
+            return getStatus();
+        }
+    }
+
+    /**
+     * True once the index holds a usable copy of the project; callers fall back to qTest queries until then
+     */
+    public boolean isReady() {
+        return ready || (loaded && !entriesById.isEmpty());
+    }
+
+    /**
+     * Look up a test case by its display key, e.g. TC-473
+     */
+    public Optional<QTestTestCase> findByPid(String pid) {
+        if (pid == null || pid.isBlank()) {
+            return Optional.empty();
+        }
+        IndexEntry entry = entriesByPid.get(pid.trim().toUpperCase(Locale.ROOT));
+        return entry != null ? Optional.of(entry.testCase) : Optional.empty();
+    }
+
+    /**
+     * Test cases whose name contains the title, ignoring case; exact matches come first
+     */
+    public List<QTestTestCase> findByTitle(String title) {
+        List<QTestTestCase> matches = new ArrayList<>();
+        if (title == null || title.isBlank()) {
+            return matches;
+        }
+        String lowerTitle = title.toLowerCase(Locale.ROOT).trim();
+        for (IndexEntry entry : entriesById.values()) {
+            if (entry.lowerName.equals(lowerTitle)) {
+                matches.add(0, entry.testCase);
+            }
+            else if (entry.lowerName.contains(lowerTitle)) {
+                matches.add(entry.testCase);
+            }
+        }
+        return matches;
+    }
+
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new HashMap<>();
+        status.put("enabled", enabled);
+        status.put("ready", isReady());
+        status.put("indexedTestCases", entriesById.size());
+        status.put("lastRefreshAt", lastRefreshAt);
+        status.put("lastFullRefreshAt", lastFullRefreshAt);
+        status.put("lastError", lastError);
+        return status;
+    }
+
+    private void loadFromDatabase() {
+        List<QTestTestCase> stored = qTestTestCaseRepository.findAll();
+        for (QTestTestCase testCase : stored) {
+            putEntry(testCase);
+        }
+        // A populated table is trusted after a restart; the next full pass comes on the usual schedule
+        nextFullRefreshAt = stored.isEmpty() ? LocalDateTime.now() : LocalDateTime.now().plusHours(fullRefreshHours);
+        loaded = true;
+        log.info("Loaded {} qTest test cases into the index from the database", stored.size());
+    }
+
+    /**
+     * Page through every test case in the project, then drop the ones qTest no longer returns.
+     * Returns the number of cases stored, or -1 when a page could not be read (nothing is pruned then).
+     */
+    private int fullRefresh() {
+        Set<Long> seenIds = new HashSet<>();
+        int stored = 0;
+        for (int page = 1; ; page++) {
+            JsonNode response = qTestService.fetchTestCasePage(page, pageSize);
+            if (response == null) {
+                lastError = "Full refresh stopped at page " + page;
+                return -1;
+            }
+            JsonNode items = response.isArray() ? response : response.path("items");
+            stored += storePage(items, seenIds);
+            if (items.size() < pageSize) {
+                break;
+            }
+        }
+
+        List<Long> removedIds = new ArrayList<>();
+        for (Long id : entriesById.keySet()) {
+            if (!seenIds.contains(id)) {
+                removedIds.add(id);
+            }
+        }
+        if (!removedIds.isEmpty()) {
+            qTestTestCaseRepository.deleteAllByIdInBatch(removedIds);
+            removedIds.forEach(this::removeEntry);
+            log.info("Removed {} qTest test cases that no longer exist from the index", removedIds.size());
+        }
+        lastFullRefreshAt = LocalDateTime.now();
+        nextFullRefreshAt = lastFullRefreshAt.plusHours(fullRefreshHours);
+        return stored;
+    }
+
+    /**
+     * Fetch only the test cases modified since the cursor. Returns the number stored, or -1 on a failed page.
+     */
+    private int incrementalRefresh(LocalDateTime sinceUtc) {
+        int stored = 0;
+        for (int page = 1; ; page++) {
+            JsonNode response = qTestService.searchTestCasesModifiedSince(sinceUtc, page, pageSize);
+            if (response == null) {
+                lastError = "Incremental refresh stopped at page " + page;
+                return -1;
+            }
+            JsonNode items = response.isArray() ? response : response.path("items");
+            stored += storePage(items, null);
+            long total = response.path("total").asLong(-1);
+            if (items.size() < pageSize || (total >= 0 && (long) page * pageSize >= total)) {
+                break;
+            }
+        }
+        return stored;
+    }
+
+    private int storePage(JsonNode items, Set<Long> seenIds) {
+        List<QTestTestCase> testCases = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (JsonNode item : items) {
+            long id = item.path("id").asLong(0);
+            if (id <= 0) {
+                continue;
+            }
+            Map<String, Object> parsed = qTestService.parseTestCaseNode(item);
+            QTestTestCase testCase = new QTestTestCase();
+            testCase.setId(id);
+            testCase.setPid(item.path("pid").asText(null));
+            testCase.setName((String) parsed.get("name"));
+            testCase.setAssignee((String) parsed.get("assignee"));
+            testCase.setAssigneeDisplayName((String) parsed.get("assigneeDisplayName"));
+            testCase.setPriority((String) parsed.get("priority"));
+            testCase.setAutomationStatus((String) parsed.get("automationStatus"));
+            testCase.setLastModifiedDate(parseTimestamp(item.path("last_modified_date").asText(null)));
+            testCase.setIndexedAt(now);
+            testCases.add(testCase);
+            if (seenIds != null) {
+                seenIds.add(id);
+            }
+        }
+        if (testCases.isEmpty()) {
+            return 0;
+        }
+        qTestTestCaseBatchRepository.upsertAll(testCases);
+        testCases.forEach(this::putEntry);
+        return testCases.size();
+    }
+
+    private void putEntry(QTestTestCase testCase) {
+        IndexEntry entry = new IndexEntry(testCase);
+        IndexEntry previous = entriesById.put(testCase.getId(), entry);
+        // A renumbered case must not stay reachable under its old key
+        if (previous != null && previous.pidKey != null && !previous.pidKey.equals(entry.pidKey)) {
+            entriesByPid.remove(previous.pidKey, previous);
+        }
+        if (entry.pidKey != null) {
+            entriesByPid.put(entry.pidKey, entry);
+        }
+    }
+
+    private void removeEntry(Long id) {
+        IndexEntry removed = entriesById.remove(id);
+        if (removed != null && removed.pidKey != null) {
+            entriesByPid.remove(removed.pidKey, removed);
+        }
+    }
+
+    private LocalDateTime parseTimestamp(String value) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        try {
+            return OffsetDateTime.parse(value).withOffsetSameInstant(ZoneOffset.UTC).toLocalDateTime();
+        }
+        catch (DateTimeParseException e) {
+            log.debug("Unparseable qTest timestamp: {}", value);
+            return null;
+        }
+    }
+
+    /**
+     * Indexed test case with its lookup keys precomputed
+     */
+    private static final class IndexEntry {
+
+        private final QTestTestCase testCase;
+        private final String pidKey;
+        private final String lowerName;
+
+        private IndexEntry(QTestTestCase testCase) {
+            this.testCase = testCase;
+            this.pidKey = testCase.getPid() != null ? testCase.getPid().trim().toUpperCase(Locale.ROOT) : null;
+            this.lowerName = testCase.getName() != null ? testCase.getName().toLowerCase(Locale.ROOT) : "";
+        }
+    }
+}
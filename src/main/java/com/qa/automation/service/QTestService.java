@@ -4,6 +4,8 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.qa.automation.config.JiraConfig;
 import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -21,110 +23,28 @@ public class QTestService {
 
     private static final Logger logger = LoggerFactory.getLogger(QTestService.class);
 
+    private static final DateTimeFormatter QTEST_QUERY_TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
+
     private final JiraConfig jiraConfig;
 
     private final WebClient qtestWebClient;
 
     private final ObjectMapper objectMapper;
 
-    private String accessToken;
-    private long tokenExpiryTime;
-    private boolean authenticationFailed = false;
-    private long lastAuthFailTime = 0;
+    private final QTestTokenManager qTestTokenManager;
 
     /**
      * Login to QTest and obtain access token (supports both token and password auth)
      */
     public boolean loginToQTest() {
-        if (!jiraConfig.isQTestConfigured()) {
-            logger.warn("QTest configuration is incomplete");
-            return false;
-        }
-
-        // If token is provided, use it directly
-        if (jiraConfig.getQtestToken() != null && !jiraConfig.getQtestToken().isEmpty()) {
-            logger.info("Using provided QTest token for authentication");
-            this.accessToken = jiraConfig.getQtestToken();
-            // Set token expiry (assume token is long-lived, check every hour)
-            this.tokenExpiryTime = System.currentTimeMillis() + (60 * 60 * 1000);
-            logger.info("Successfully configured QTest with provided token");
-            return true;
-        }
-
-        // Fallback to username/password authentication
-        try {
-            Map<String, String> loginRequest = new HashMap<>();
-            loginRequest.put("username", jiraConfig.getQtestUsername());
-            loginRequest.put("password", jiraConfig.getQtestPassword());
-
-            logger.info("Attempting to login to QTest for user: {}", jiraConfig.getQtestUsername());
-            logger.debug("QTest URL: {}", jiraConfig.getQtestUrl());
-
-            String response = qtestWebClient.post()
-                    .uri("/api/login")
-                    .bodyValue(loginRequest)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .timeout(Duration.ofSeconds(30))
-                    .block();
-
-            JsonNode responseNode = objectMapper.readTree(response);
-            this.accessToken = responseNode.path("access_token").asText();
-
-            if (accessToken == null || accessToken.isEmpty()) {
-                logger.error("No access token received from QTest login response");
-                return false;
-            }
-
-            // Set token expiry (typically 1 hour, but we'll refresh every 50 minutes)
-            this.tokenExpiryTime = System.currentTimeMillis() + (50 * 60 * 1000);
-
-            logger.info("Successfully logged in to QTest using username/password");
-            return true;
-
-        }
-        catch (WebClientResponseException e) {
-            logger.error("Login to QTest failed: {} - {}", e.getStatusCode(), e.getResponseBodyAsString());
-
-            // Provide specific guidance for common issues
-            if (e.getStatusCode().value() == 401) {
-                logger.error("QTest Authentication Failed - Please check:");
-                logger.error("1. Username: {}", jiraConfig.getQtestUsername());
-                logger.error("2. Password/Token is correct");
-                logger.error("3. QTest URL is correct: {}", jiraConfig.getQtestUrl());
-                logger.error("4. Account is not locked or requires 2FA");
-                logger.error("5. Consider using qtest.token instead of username/password");
-            }
-            return false;
-        }
-        catch (Exception e) {
-            logger.error("Unexpected error during QTest login: {}", e.getMessage(), e);
-            return false;
-        }
+        return qTestTokenManager.loginNow();
     }
 
     /**
      * Check if current token is valid and refresh if needed
      */
     private boolean ensureValidToken() {
-        // Don't retry authentication if it failed recently (within 5 minutes)
-        if (authenticationFailed && (System.currentTimeMillis() - lastAuthFailTime) < 300000) {
-            logger.debug("Skipping QTest authentication - recent failure detected");
-            return false;
-        }
-
-        if (accessToken == null || System.currentTimeMillis() >= tokenExpiryTime) {
-            boolean success = loginToQTest();
-            if (!success) {
-                authenticationFailed = true;
-                lastAuthFailTime = System.currentTimeMillis();
-            }
-            else {
-                authenticationFailed = false;
-            }
-            return success;
-        }
-        return true;
+        return qTestTokenManager.ensureToken();
     }
 
     /**
@@ -142,12 +62,7 @@ public class QTestService {
 
             logger.debug("Fetching QTest test case details for ID: {}", testCaseId);
 
-            String response = WebClient.builder()
-                    .baseUrl(jiraConfig.getQtestUrl())
-                    .defaultHeader("Authorization", "Bearer " + accessToken)
-                    .defaultHeader("Content-Type", "application/json")
-                    .build()
-                    .get()
+            String response = qtestWebClient.get()
                     .uri(url)
                     .retrieve()
                     .bodyToMono(String.class)
@@ -183,12 +98,7 @@ public class QTestService {
 
             logger.debug("Searching QTest test cases by title: {}", title);
 
-            String response = WebClient.builder()
-                    .baseUrl(jiraConfig.getQtestUrl())
-                    .defaultHeader("Authorization", "Bearer " + accessToken)
-                    .defaultHeader("Content-Type", "application/json")
-                    .build()
-                    .get()
+            String response = qtestWebClient.get()
                     .uri(url)
                     .retrieve()
                     .bodyToMono(String.class)
@@ -209,15 +119,95 @@ public class QTestService {
         }
     }
 
+    /**
+     * One page (1-based) of the project's test cases, properties included; null when qTest could not be read
+     */
+    public JsonNode fetchTestCasePage(int page, int size) {
+        if (!ensureValidToken()) {
+            logger.error("Cannot list test cases - authentication failed");
+            return null;
+        }
+
+        try {
+            String url = String.format("/api/v3/projects/%s/test-cases?page=%d&size=%d&expandProps=true",
+                    jiraConfig.getQtestProjectId(), page, size);
+
+            return qtestWebClient.get()
+                    .uri(url)
+                    .retrieve()
+                    .bodyToMono(JsonNode.class)
+                    .timeout(Duration.ofSeconds(60))
+                    .block();
+        }
+        catch (WebClientResponseException e) {
+            logger.error("Error listing QTest test cases (page {}): {} - {}",
+                    page, e.getStatusCode(), e.getResponseBodyAsString());
+            return null;
+        }
+        catch (Exception e) {
+            logger.error("Unexpected error listing QTest test cases (page {}): {}", page, e.getMessage(), e);
+            return null;
+        }
+    }
+
+    /**
+     * One page (1-based) of test cases modified at or after the given UTC time, read through the qTest
+     * search API; null when qTest could not be read
+     */
+    public JsonNode searchTestCasesModifiedSince(LocalDateTime sinceUtc, int page, int size) {
+        if (!ensureValidToken()) {
+            logger.error("Cannot search modified test cases - authentication failed");
+            return null;
+        }
+
+        try {
+            String url = String.format("/api/v3/projects/%s/search?page=%d&pageSize=%d",
+                    jiraConfig.getQtestProjectId(), page, size);
+
+            Map<String, Object> searchRequest = new HashMap<>();
+            searchRequest.put("object_type", "test-cases");
+            searchRequest.put("fields", List.of("*"));
+            searchRequest.put("query", "'Last Modified Date' >= '" + sinceUtc.format(QTEST_QUERY_TIMESTAMP) + "'");
+
+            return qtestWebClient.post()
+                    .uri(url)
+                    .bodyValue(searchRequest)
+                    .retrieve()
+                    .bodyToMono(JsonNode.class)
+                    .timeout(Duration.ofSeconds(60))
+                    .block();
+        }
+        catch (WebClientResponseException e) {
+            logger.error("Error searching modified QTest test cases (page {}): {} - {}",
+                    page, e.getStatusCode(), e.getResponseBodyAsString());
+            return null;
+        }
+        catch (Exception e) {
+            logger.error("Unexpected error searching modified QTest test cases (page {}): {}", page, e.getMessage(), e);
+            return null;
+        }
+    }
+
     /**
      * Parse QTest test case response
      */
     private Map<String, Object> parseTestCaseResponse(String response) {
+        try {
+            return parseTestCaseNode(objectMapper.readTree(response));
+        }
+        catch (Exception e) {
+            logger.error("Error parsing QTest test case response: {}", e.getMessage(), e);
+            return new HashMap<>();
+        }
+    }
+
+    /**
+     * Extract id, name, description, assignee, priority and automation status from a test case object
+     */
+    public Map<String, Object> parseTestCaseNode(JsonNode testCaseNode) {
         Map<String, Object> testCase = new HashMap<>();
 
         try {
-            JsonNode testCaseNode = objectMapper.readTree(response);
-
             testCase.put("id", testCaseNode.path("id").asText());
             testCase.put("name", testCaseNode.path("name").asText());
             testCase.put("description", testCaseNode.path("description").asText());
@@ -251,7 +241,7 @@ public class QTestService {
 
         }
         catch (Exception e) {
-            logger.error("Error parsing QTest test case response: {}", e.getMessage(), e);
+            logger.error("Error parsing QTest test case: {}", e.getMessage(), e);
         }
 
         return testCase;
@@ -306,8 +296,7 @@ public class QTestService {
             return false;
         }
 
-        // Reset authentication failure state for connection test
-        authenticationFailed = false;
+        // Logs in even after a recent failure
         return loginToQTest();
     }
 
@@ -315,6 +304,6 @@ public class QTestService {
      * Check if QTest is authenticated
      */
     public boolean isAuthenticated() {
-        return accessToken != null && System.currentTimeMillis() < tokenExpiryTime;
+        return qTestTokenManager.isAuthenticated();
     }
 }
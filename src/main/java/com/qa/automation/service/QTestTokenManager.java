@@ -0,0 +1,203 @@
+package com.qa.automation.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.qa.automation.config.JiraConfig;
+import com.qa.automation.config.QTestBearerFilter;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+/**
+ * Owns the qTest access token. The token is read without locking; when it is missing or expired exactly one
+ * login runs and every concurrent caller waits on that same login, so a burst of enrichment calls never
+ * stampedes the login endpoint. After a failed login further attempts are held off for five minutes.
+ */
+@Service
+@RequiredArgsConstructor
+public class QTestTokenManager {
+
+    private static final Logger logger = LoggerFactory.getLogger(QTestTokenManager.class);
+
+    private static final long FAILURE_BACKOFF_MS = 300000;
+    // Configured tokens are long-lived; they are re-validated hourly
+    private static final long CONFIGURED_TOKEN_TTL_MS = 60 * 60 * 1000;
+    // Password logins typically last an hour; refresh at 50 minutes
+    private static final long LOGIN_TOKEN_TTL_MS = 50 * 60 * 1000;
+
+    private final JiraConfig jiraConfig;
+
+    private final WebClient qtestWebClient;
+
+    private final AtomicReference<AccessToken> currentToken = new AtomicReference<>();
+    private final AtomicReference<CompletableFuture<AccessToken>> loginInFlight = new AtomicReference<>();
+    private volatile long lastFailureAt;
+
+    /**
+     * The current token, logging in first when there is none or it has expired
+     */
+    public Mono<String> getToken() {
+        AccessToken token = currentToken.get();
+        if (token != null && token.isValid()) {
+            return Mono.just(token.value);
+        }
+        // Cancellation is suppressed: one impatient caller must not cancel the login the others are waiting on
+        return Mono.defer(() -> Mono.fromFuture(refresh(false), true)).map(accessToken -> accessToken.value);
+    }
+
+    /**
+     * Blocking check used by QTestService before each call: true when a valid token is (or could be) obtained
+     */
+    public boolean ensureToken() {
+        try {
+            return getToken().block(Duration.ofSeconds(45)) != null;
+        }
+        catch (Exception e) {
+            logger.debug("No qTest token available: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Log in now, ignoring the failure backoff (used by explicit connection tests)
+     */
+    public boolean loginNow() {
+        try {
+            return refresh(true).join() != null;
+        }
+        catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * Drop a token qTest rejected with 401 so the next caller logs in again. A newer token that another caller
+     * already obtained is left alone.
+     */
+    public void invalidate(String rejectedToken) {
+        AccessToken token = currentToken.get();
+        if (token != null && token.value.equals(rejectedToken)) {
+            currentToken.compareAndSet(token, null);
+        }
+    }
+
+    public boolean isAuthenticated() {
+        AccessToken token = currentToken.get();
+        return token != null && token.isValid();
+    }
+
+    private CompletableFuture<AccessToken> refresh(boolean ignoreBackoff) {
+        while (true) {
+            CompletableFuture<AccessToken> inFlight = loginInFlight.get();
+            if (inFlight != null) {
+                return inFlight;
+            }
+            AccessToken token = currentToken.get();
+            if (!ignoreBackoff && token != null && token.isValid()) {
+                return CompletableFuture.completedFuture(token);
+            }
+            if (!ignoreBackoff && System.currentTimeMillis() - lastFailureAt < FAILURE_BACKOFF_MS) {
+                logger.debug("Skipping QTest authentication - recent failure detected");
+                return CompletableFuture.failedFuture(new IllegalStateException("QTest authentication failed recently"));
+            }
+
+            CompletableFuture<AccessToken> login = new CompletableFuture<>();
+            if (!loginInFlight.compareAndSet(null, login)) {
+                continue;
+            }
+            login().subscribe(
+                    newToken -> {
+                        currentToken.set(newToken);
+                        lastFailureAt = 0;
+                        // Cleared before completing so a caller woken by this login never sees it still in flight
+                        loginInFlight.set(null);
+                        login.complete(newToken);
+                    },
+                    error -> {
+                        lastFailureAt = System.currentTimeMillis();
+                        loginInFlight.set(null);
+                        login.completeExceptionally(error);
+                    });
+            return login;
+        }
+    }
+
+    /**
+     * Login to QTest and obtain access token (supports both token and password auth)
+     */
+    private Mono<AccessToken> login() {
+        if (!jiraConfig.isQTestConfigured()) {
+            logger.warn("QTest configuration is incomplete");
+            return Mono.error(new IllegalStateException("QTest configuration is incomplete"));
+        }
+
+        // If token is provided, use it directly
+        if (jiraConfig.getQtestToken() != null && !jiraConfig.getQtestToken().isEmpty()) {
+            logger.info("Using provided QTest token for authentication");
+            return Mono.just(new AccessToken(jiraConfig.getQtestToken(), System.currentTimeMillis() + CONFIGURED_TOKEN_TTL_MS));
+        }
+
+        // Fallback to username/password authentication
+        Map<String, String> loginRequest = new HashMap<>();
+        loginRequest.put("username", jiraConfig.getQtestUsername());
+        loginRequest.put("password", jiraConfig.getQtestPassword());
+
+        logger.info("Attempting to login to QTest for user: {}", jiraConfig.getQtestUsername());
+        logger.debug("QTest URL: {}", jiraConfig.getQtestUrl());
+
+        return qtestWebClient.post()
+                .uri("/api/login")
+                .attribute(QTestBearerFilter.SKIP_AUTH_ATTRIBUTE, true)
+                .bodyValue(loginRequest)
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .timeout(Duration.ofSeconds(30))
+                .flatMap(responseNode -> {
+                    String accessToken = responseNode.path("access_token").asText();
+                    if (accessToken == null || accessToken.isEmpty()) {
+                        logger.error("No access token received from QTest login response");
+                        return Mono.error(new IllegalStateException("No access token in QTest login response"));
+                    }
+                    logger.info("Successfully logged in to QTest using username/password");
+                    return Mono.just(new AccessToken(accessToken, System.currentTimeMillis() + LOGIN_TOKEN_TTL_MS));
+                })
+                .doOnError(WebClientResponseException.class, e -> {
+                    logger.error("Login to QTest failed: {} - {}", e.getStatusCode(), e.getResponseBodyAsString());
+
+                    // Provide specific guidance for common issues
+                    if (e.getStatusCode().value() == 401) {
+                        logger.error("QTest Authentication Failed - Please check:");
+                        logger.error("1. Username: {}", jiraConfig.getQtestUsername());
+                        logger.error("2. Password/Token is correct");
+                        logger.error("3. QTest URL is correct: {}", jiraConfig.getQtestUrl());
+                        logger.error("4. Account is not locked or requires 2FA");
+                        logger.error("5. Consider using qtest.token instead of username/password");
+                    }
+                })
+                .doOnError(e -> !(e instanceof WebClientResponseException),
+                        e -> logger.error("Unexpected error during QTest login: {}", e.getMessage(), e));
+    }
+
+    private static final class AccessToken {
+
+        private final String value;
+        private final long expiresAt;
+
+        private AccessToken(String value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isValid() {
+            return System.currentTimeMillis() < expiresAt;
+        }
+    }
+}
@@ -4,27 +4,66 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.qa.automation.model.JenkinsResult;
 import com.qa.automation.model.JenkinsTestCase;
+import com.qa.automation.utils.JenkinsJobPath;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Base64;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.NodeList;
 
 @Service
+@RequiredArgsConstructor
+@Slf4j
 public class TestNGXMLParserService {
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    private static final int MAX_ERROR_MESSAGE_LENGTH = 2000;
+    private static final int MAX_STACK_TRACE_LENGTH = 5000;
+
+    private static final String ARCHIVE_ZIP_PATH = "*zip*/archive.zip";
+    private static final String ARCHIVE_ENTRY_PREFIX = "archive/";
+    // Larger archive entries are parsed while streaming rather than buffered for the parse pool
+    private static final long MAX_BUFFERED_ENTRY_BYTES = 16L * 1024 * 1024;
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = createXmlInputFactory();
+
+    private final RestTemplate jenkinsRestTemplate;
+
+    private final JenkinsArtifactService jenkinsArtifactService;
+
     private final ObjectMapper objectMapper = new ObjectMapper();
     @Value("${jenkins.url:}")
     private String jenkinsUrl;
@@ -32,113 +71,279 @@ public class TestNGXMLParserService {
     private String jenkinsUsername;
     @Value("${jenkins.token:}")
     private String jenkinsToken;
+    @Value("${jenkins.artifacts.archive-mode-threshold:20}")
+    private int archiveModeThreshold;
+    @Value("${jenkins.artifacts.parse-parallelism:6}")
+    private int parseParallelism;
+
+    // Bounded pool shared by every build being ingested, so nested job syncs cannot multiply the fan-out
+    private ExecutorService parseExecutor;
+
+    @PostConstruct
+    void startParseExecutor() {
+        AtomicInteger threadCount = new AtomicInteger();
+        parseExecutor = Executors.newFixedThreadPool(Math.max(1, parseParallelism), runnable -> {
+            Thread thread = new Thread(runnable, "artifact-parse-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void stopParseExecutor() {
+        parseExecutor.shutdownNow();
+    }
 
     /**
-     * Extract test cases from TestNG XML files in Jenkins artifacts
+     * Extract test cases from TestNG XML files in Jenkins artifacts. A build without report files yields an empty
+     * list; a report that could not be downloaded or read (5xx, timeout, broken stream) fails the whole extraction,
+     * so the build is retried instead of being stored with some of its cases missing.
      */
-    public List<JenkinsTestCase> extractTestCasesFromXMLFiles(JenkinsResult jenkinsResult) {
+    public List<JenkinsTestCase> extractTestCasesFromXMLFiles(JenkinsResult jenkinsResult) throws IOException {
         List<JenkinsTestCase> testCases = new ArrayList<>();
+        System.out.println("Attempting to extract test cases from TestNG XML files for job: " + jenkinsResult.getJobName());
 
-        try {
-            System.out.println("Attempting to extract test cases from TestNG XML files for job: " + jenkinsResult.getJobName());
+        // First, get the list of artifacts
+        List<String> testngXmlFiles = findTestNGXMLFiles(jenkinsResult.getJobName(), jenkinsResult.getBuildNumber());
 
-            // First, get the list of artifacts
-            List<String> testngXmlFiles = findTestNGXMLFiles(jenkinsResult.getJobName(), jenkinsResult.getBuildNumber());
+        if (testngXmlFiles.isEmpty()) {
+            System.out.println("No TestNG XML files found in artifacts");
+            return testCases;
+        }
 
-            if (testngXmlFiles.isEmpty()) {
-                System.out.println("No TestNG XML files found in artifacts");
-                return testCases;
+        // Many report files: one archive.zip download instead of one request per file. Both paths parse on the
+        // shared parse pool, so large builds keep the parallel parse either way.
+        if (testngXmlFiles.size() >= archiveModeThreshold) {
+            try {
+                testCases.addAll(extractFromArchive(jenkinsResult, testngXmlFiles));
             }
-
-            // Parse each TestNG XML file
-            for (String xmlFile : testngXmlFiles) {
-                try {
-                    String xmlContent = downloadArtifact(jenkinsResult.getJobName(), jenkinsResult.getBuildNumber(), xmlFile);
-                    if (xmlContent != null && !xmlContent.isEmpty()) {
-                        List<JenkinsTestCase> fileCases = parseTestNGXML(jenkinsResult, xmlContent, xmlFile);
-                        testCases.addAll(fileCases);
-                        System.out.println("Extracted " + fileCases.size() + " test cases from " + xmlFile);
-                    }
-                }
-                catch (Exception e) {
-                    System.err.println("Error parsing XML file " + xmlFile + ": " + e.getMessage());
-                }
+            catch (IOException | RuntimeException e) {
+                log.warn("Error reading archive.zip of job {} build {}, falling back to per-file download: {}",
+                        jenkinsResult.getJobName(), jenkinsResult.getBuildNumber(), e.getMessage());
+                testCases.addAll(extractPerFile(jenkinsResult, testngXmlFiles));
             }
-
-            System.out.println("Total test cases extracted from XML files: " + testCases.size());
-
         }
-        catch (Exception e) {
-            System.err.println("Error extracting test cases from XML files: " + e.getMessage());
-            e.printStackTrace();
+        else {
+            testCases.addAll(extractPerFile(jenkinsResult, testngXmlFiles));
         }
 
+        System.out.println("Total test cases extracted from XML files: " + testCases.size());
         return testCases;
     }
 
-    private List<String> findTestNGXMLFiles(String jobName, String buildNumber) {
-        List<String> xmlFiles = new ArrayList<>();
+    /**
+     * Download and parse report files concurrently on the bounded parse pool, merging results in file order.
+     * The first file that fails fails the extraction.
+     */
+    private List<JenkinsTestCase> extractPerFile(JenkinsResult jenkinsResult, List<String> xmlFiles) throws IOException {
+        long startedAt = System.currentTimeMillis();
 
-        try {
-            // Get artifacts list
-            String artifactsUrl = jenkinsUrl + "/job/" + jobName + "/" + buildNumber + "/artifact/*zip*/archive.zip";
+        List<CompletableFuture<List<JenkinsTestCase>>> pending = new ArrayList<>();
+        for (String xmlFile : xmlFiles) {
+            pending.add(CompletableFuture.supplyAsync(() -> parseFileTimed(jenkinsResult, xmlFile), parseExecutor));
+        }
 
-            // Try to get artifact tree first
-            String treeUrl = jenkinsUrl + "/job/" + jobName + "/" + buildNumber + "/api/json?tree=artifacts[*]";
+        // Join in submission order so the merged list is deterministic regardless of completion order
+        List<JenkinsTestCase> testCases = new ArrayList<>();
+        for (int i = 0; i < pending.size(); i++) {
+            try {
+                testCases.addAll(pending.get(i).join());
+            }
+            catch (CompletionException e) {
+                pending.forEach(future -> future.cancel(true));
+                throw new IOException("Could not read report file " + xmlFiles.get(i) + ": " + e.getCause().getMessage(), e.getCause());
+            }
+        }
 
-            HttpHeaders headers = createAuthHeaders();
-            HttpEntity<String> entity = new HttpEntity<>(headers);
+        System.out.println("Parsed " + xmlFiles.size() + " report files in " + (System.currentTimeMillis() - startedAt) + " ms");
+        return testCases;
+    }
 
-            ResponseEntity<String> response = restTemplate.exchange(treeUrl, HttpMethod.GET, entity, String.class);
+    private List<JenkinsTestCase> parseFileTimed(JenkinsResult jenkinsResult, String xmlFile) {
+        long startedAt = System.currentTimeMillis();
+        try {
+            List<JenkinsTestCase> fileCases = downloadAndParseArtifact(jenkinsResult, xmlFile);
+            System.out.println("Extracted " + fileCases.size() + " test cases from " + xmlFile + " in " +
+                    (System.currentTimeMillis() - startedAt) + " ms");
+            return fileCases;
+        }
+        catch (IOException e) {
+            log.warn("Error reading report file {} after {} ms: {}", xmlFile, System.currentTimeMillis() - startedAt, e.getMessage());
+            throw new UncheckedIOException(e);
+        }
+    }
 
-            if (response.getStatusCode().is2xxSuccessful()) {
-                JsonNode artifactsJson = objectMapper.readTree(response.getBody());
-                JsonNode artifacts = artifactsJson.get("artifacts");
+    /**
+     * Download the build's archive.zip once and parse the wanted report files while streaming through its entries.
+     * The zip is read straight off the response; entries that are not reports are skipped, never written to disk.
+     * Each report entry is read into memory and parsed on the shared parse pool while the stream moves on, with at
+     * most parse-parallelism entries buffered at a time; an entry that turns out larger than MAX_BUFFERED_ENTRY_BYTES
+     * is parsed in place on the streaming thread instead, so no more than the cap is ever buffered per entry.
+     */
+    private List<JenkinsTestCase> extractFromArchive(JenkinsResult jenkinsResult, List<String> xmlFiles) throws IOException {
+        long startedAt = System.currentTimeMillis();
+        Set<String> wanted = new HashSet<>(xmlFiles);
+        Map<String, CompletableFuture<List<JenkinsTestCase>>> pendingByFile = new HashMap<>();
+        Semaphore buffered = new Semaphore(Math.max(1, parseParallelism));
+
+        jenkinsArtifactService.streamArtifact(jenkinsResult.getJobName(), jenkinsResult.getBuildNumber(), ARCHIVE_ZIP_PATH,
+                archive -> {
+                    ZipInputStream zip = new ZipInputStream(archive);
+                    ZipEntry entry;
+                    // Read to the end: the pooled client drains the rest of the body on close anyway to reuse the connection
+                    while ((entry = zip.getNextEntry()) != null) {
+                        // Entries are laid out as archive/<relativePath>
+                        String path = entry.getName().startsWith(ARCHIVE_ENTRY_PREFIX) ?
+                                entry.getName().substring(ARCHIVE_ENTRY_PREFIX.length()) : entry.getName();
+                        if (entry.isDirectory() || !wanted.contains(path)) {
+                            continue;
+                        }
 
-                if (artifacts != null && artifacts.isArray()) {
-                    for (JsonNode artifact : artifacts) {
-                        String fileName = artifact.get("fileName").asText();
-                        String relativePath = artifact.get("relativePath").asText();
+                        if (entry.getSize() > MAX_BUFFERED_ENTRY_BYTES) {
+                            pendingByFile.put(path, CompletableFuture.completedFuture(parseInPlace(jenkinsResult, path, zip)));
+                            continue;
+                        }
 
-                        // Look for TestNG result files
-                        if (fileName.contains("testng") && fileName.endsWith(".xml")) {
-                            xmlFiles.add(relativePath);
-                            System.out.println("Found TestNG XML file: " + relativePath);
+                        try {
+                            buffered.acquire();
+                        }
+                        catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            throw new InterruptedIOException("Interrupted while reading archive.zip");
                         }
-                        // Also look for surefire reports
-                        else if (relativePath.contains("surefire-reports") && fileName.endsWith(".xml")) {
-                            xmlFiles.add(relativePath);
-                            System.out.println("Found Surefire XML file: " + relativePath);
+                        byte[] content;
+                        try {
+                            // Jenkins writes archive.zip with data descriptors, so entry sizes are usually unknown (-1):
+                            // read at most one byte past the cap to find out
+                            content = zip.readNBytes((int) MAX_BUFFERED_ENTRY_BYTES + 1);
                         }
-                        // Look for any XML in test-output directory
-                        else if (relativePath.contains("test-output") && fileName.endsWith(".xml")) {
-                            xmlFiles.add(relativePath);
-                            System.out.println("Found test-output XML file: " + relativePath);
+                        catch (IOException e) {
+                            buffered.release();
+                            throw e;
                         }
+                        if (content.length > MAX_BUFFERED_ENTRY_BYTES) {
+                            try {
+                                InputStream entryStream = new SequenceInputStream(new ByteArrayInputStream(content), zip);
+                                pendingByFile.put(path, CompletableFuture.completedFuture(parseInPlace(jenkinsResult, path, entryStream)));
+                            }
+                            finally {
+                                buffered.release();
+                            }
+                            continue;
+                        }
+                        pendingByFile.put(path, CompletableFuture
+                                .supplyAsync(() -> parseArchiveEntry(jenkinsResult, path, content), parseExecutor)
+                                .whenComplete((fileCases, error) -> buffered.release()));
                     }
-                }
+                    return null;
+                });
+
+        // Merge in artifact list order so the result does not depend on zip entry order
+        List<JenkinsTestCase> testCases = new ArrayList<>();
+        for (String xmlFile : xmlFiles) {
+            CompletableFuture<List<JenkinsTestCase>> fileCases = pendingByFile.get(xmlFile);
+            if (fileCases == null) {
+                // Listed as an artifact but missing from the zip: let the caller fall back to per-file download
+                throw new IOException("Report file " + xmlFile + " was not found in archive.zip");
+            }
+            try {
+                testCases.addAll(fileCases.join());
+            }
+            catch (CompletionException e) {
+                throw new IOException("Could not parse archive entry " + xmlFile + ": " + e.getCause().getMessage(), e.getCause());
             }
+        }
+        System.out.println("Extracted " + testCases.size() + " test cases from " + pendingByFile.size() +
+                " files in archive.zip in " + (System.currentTimeMillis() - startedAt) + " ms");
+        return testCases;
+    }
+
+    private List<JenkinsTestCase> parseInPlace(JenkinsResult jenkinsResult, String path, InputStream entry) throws IOException {
+        // Parsed on the streaming thread; the zip stream must stay open for the entries that follow
+        List<JenkinsTestCase> fileCases = new ArrayList<>();
+        parseTestReportXML(jenkinsResult, path.endsWith(".gz") ? new GZIPInputStream(entry) : entry, path, fileCases::add);
+        return fileCases;
+    }
+
+    private List<JenkinsTestCase> parseArchiveEntry(JenkinsResult jenkinsResult, String path, byte[] content) {
+        long startedAt = System.currentTimeMillis();
+        List<JenkinsTestCase> fileCases = new ArrayList<>();
+        try (InputStream in = path.endsWith(".gz") ?
+                new GZIPInputStream(new ByteArrayInputStream(content)) : new ByteArrayInputStream(content)) {
+            parseTestReportXML(jenkinsResult, in, path, fileCases::add);
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        log.debug("Parsed {} test cases from archive entry {} in {} ms", fileCases.size(), path,
+                System.currentTimeMillis() - startedAt);
+        return fileCases;
+    }
+
+    /**
+     * Report files archived by the build. A build Jenkins has no record of (404) has none; any other failure is thrown.
+     */
+    private List<String> findTestNGXMLFiles(String jobName, String buildNumber) throws IOException {
+        List<String> xmlFiles = new ArrayList<>();
+
+        // Try to get artifact tree first
+        String treeUrl = jenkinsUrl + JenkinsJobPath.of(jobName) + "/" + buildNumber + "/api/json?tree=artifacts[*]";
+
+        HttpHeaders headers = createAuthHeaders();
+        HttpEntity<String> entity = new HttpEntity<>(headers);
+
+        ResponseEntity<String> response;
+        try {
+            response = jenkinsRestTemplate.exchange(treeUrl, HttpMethod.GET, entity, String.class);
+        }
+        catch (HttpClientErrorException.NotFound e) {
+            System.out.println("Build " + buildNumber + " of job " + jobName + " not found, no artifacts to read");
+            return xmlFiles;
+        }
+
+        if (response.getStatusCode().is2xxSuccessful()) {
+            JsonNode artifactsJson = objectMapper.readTree(response.getBody());
+            JsonNode artifacts = artifactsJson.get("artifacts");
 
-            // If no artifacts found, try common paths
-            if (xmlFiles.isEmpty()) {
-                String[] commonPaths = {
-                    "target/surefire-reports/testng-results.xml",
-                    "test-output/testng-results.xml",
-                    "testng-results.xml",
-                    "target/surefire-reports/TEST-TestSuite.xml"
-                };
-
-                for (String path : commonPaths) {
-                    if (artifactExists(jobName, buildNumber, path)) {
-                        xmlFiles.add(path);
-                        System.out.println("Found TestNG XML at common path: " + path);
+            if (artifacts != null && artifacts.isArray()) {
+                for (JsonNode artifact : artifacts) {
+                    String fileName = artifact.get("fileName").asText();
+                    String relativePath = artifact.get("relativePath").asText();
+
+                    // Look for TestNG result files
+                    if (fileName.contains("testng") && isXmlReport(fileName)) {
+                        xmlFiles.add(relativePath);
+                        System.out.println("Found TestNG XML file: " + relativePath);
+                    }
+                    // Also look for surefire reports
+                    else if (relativePath.contains("surefire-reports") && isXmlReport(fileName)) {
+                        xmlFiles.add(relativePath);
+                        System.out.println("Found Surefire XML file: " + relativePath);
+                    }
+                    // Look for any XML in test-output directory
+                    else if (relativePath.contains("test-output") && isXmlReport(fileName)) {
+                        xmlFiles.add(relativePath);
+                        System.out.println("Found test-output XML file: " + relativePath);
                     }
                 }
             }
-
         }
-        catch (Exception e) {
-            System.err.println("Error finding TestNG XML files: " + e.getMessage());
+
+        // If no artifacts found, try common paths
+        if (xmlFiles.isEmpty()) {
+            String[] commonPaths = {
+                "target/surefire-reports/testng-results.xml",
+                "test-output/testng-results.xml",
+                "testng-results.xml",
+                "target/surefire-reports/TEST-TestSuite.xml"
+            };
+
+            for (String path : commonPaths) {
+                if (artifactExists(jobName, buildNumber, path)) {
+                    xmlFiles.add(path);
+                    System.out.println("Found TestNG XML at common path: " + path);
+                }
+            }
         }
 
         return xmlFiles;
@@ -146,181 +351,202 @@ public class TestNGXMLParserService {
 
     private boolean artifactExists(String jobName, String buildNumber, String path) {
         try {
-            String url = jenkinsUrl + "/job/" + jobName + "/" + buildNumber + "/artifact/" + path;
+            String url = jenkinsUrl + JenkinsJobPath.of(jobName) + "/" + buildNumber + "/artifact/" + path;
             HttpHeaders headers = createAuthHeaders();
             HttpEntity<String> entity = new HttpEntity<>(headers);
 
-            ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.HEAD, entity, String.class);
+            ResponseEntity<String> response = jenkinsRestTemplate.exchange(url, HttpMethod.HEAD, entity, String.class);
             return response.getStatusCode().is2xxSuccessful();
         }
-        catch (Exception e) {
+        catch (HttpClientErrorException.NotFound e) {
             return false;
         }
     }
 
-    private String downloadArtifact(String jobName, String buildNumber, String artifactPath) {
-        try {
-            String url = jenkinsUrl + "/job/" + jobName + "/" + buildNumber + "/artifact/" + artifactPath;
-
-            HttpHeaders headers = createAuthHeaders();
-            HttpEntity<String> entity = new HttpEntity<>(headers);
-
-            ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.GET, entity, String.class);
-
-            if (response.getStatusCode().is2xxSuccessful()) {
-                return response.getBody();
-            }
-        }
-        catch (Exception e) {
-            System.err.println("Error downloading artifact " + artifactPath + ": " + e.getMessage());
-        }
-
-        return null;
+    private boolean isXmlReport(String fileName) {
+        return fileName.endsWith(".xml") || fileName.endsWith(".xml.gz");
     }
 
-    private List<JenkinsTestCase> parseTestNGXML(JenkinsResult jenkinsResult, String xmlContent, String fileName) {
+    /**
+     * Stream an artifact into the XML parser; large artifacts are spooled to disk rather than held in memory
+     */
+    private List<JenkinsTestCase> downloadAndParseArtifact(JenkinsResult jenkinsResult, String artifactPath) throws IOException {
         List<JenkinsTestCase> testCases = new ArrayList<>();
+        jenkinsArtifactService.readArtifact(jenkinsResult.getJobName(), jenkinsResult.getBuildNumber(), artifactPath,
+                artifact -> {
+                    parseTestReportXML(jenkinsResult, artifact, artifactPath, testCases::add);
+                    return null;
+                });
+        return testCases;
+    }
 
+    /**
+     * Parse a TestNG or Surefire XML report with StAX, handing each test case to the sink as soon as it is complete.
+     * A stream that breaks off (connection reset, truncated gzip) is rethrown; malformed XML is logged and the cases
+     * read up to that point are kept, since downloading the same report again would not change it.
+     */
+    void parseTestReportXML(JenkinsResult jenkinsResult, InputStream xmlStream, String fileName,
+                            Consumer<JenkinsTestCase> sink) throws IOException {
+        XMLStreamReader reader = null;
         try {
-            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-            DocumentBuilder builder = factory.newDocumentBuilder();
-            Document document = builder.parse(new ByteArrayInputStream(xmlContent.getBytes()));
+            reader = XML_INPUT_FACTORY.createXMLStreamReader(xmlStream);
+            while (reader.hasNext()) {
+                if (reader.next() != XMLStreamConstants.START_ELEMENT) {
+                    continue;
+                }
+                String root = reader.getLocalName();
 
-            // Handle TestNG results XML format
-            if (xmlContent.contains("<testng-results") || xmlContent.contains("<suite")) {
-                testCases.addAll(parseTestNGResultsXML(jenkinsResult, document));
-            }
-            // Handle Surefire XML format
-            else if (xmlContent.contains("<testsuite")) {
-                testCases.addAll(parseSurefireXML(jenkinsResult, document));
+                // Handle TestNG results XML format
+                if ("testng-results".equals(root) || "suite".equals(root)) {
+                    parseTestNGResultsXML(jenkinsResult, reader, sink);
+                }
+                // Handle Surefire XML format
+                else if ("testsuite".equals(root) || "testsuites".equals(root)) {
+                    parseSurefireXML(jenkinsResult, reader, sink);
+                }
+                break;
             }
-
         }
         catch (Exception e) {
+            IOException readFailure = findIOException(e);
+            if (readFailure != null) {
+                throw readFailure;
+            }
             System.err.println("Error parsing XML content from " + fileName + ": " + e.getMessage());
         }
-
-        return testCases;
+        finally {
+            closeQuietly(reader);
+        }
     }
 
-    private List<JenkinsTestCase> parseTestNGResultsXML(JenkinsResult jenkinsResult, Document document) {
-        List<JenkinsTestCase> testCases = new ArrayList<>();
-
-        try {
-            // TestNG XML structure: <testng-results> -> <suite> -> <test> -> <class> -> <test-method>
-            NodeList suites = document.getElementsByTagName("suite");
-
-            for (int s = 0; s < suites.getLength(); s++) {
-                Element suite = (Element) suites.item(s);
-
-                NodeList tests = suite.getElementsByTagName("test");
-                for (int t = 0; t < tests.getLength(); t++) {
-                    Element test = (Element) tests.item(t);
-
-                    NodeList classes = test.getElementsByTagName("class");
-                    for (int c = 0; c < classes.getLength(); c++) {
-                        Element clazz = (Element) classes.item(c);
-                        String className = clazz.getAttribute("name");
-
-                        NodeList testMethods = clazz.getElementsByTagName("test-method");
-                        for (int m = 0; m < testMethods.getLength(); m++) {
-                            Element method = (Element) testMethods.item(m);
-
-                            // Skip configuration methods, only get test methods
-                            if ("true".equals(method.getAttribute("is-config"))) {
-                                continue;
-                            }
-
-                            JenkinsTestCase testCase = new JenkinsTestCase();
-                            testCase.setJenkinsResult(jenkinsResult);
-                            testCase.setClassName(className);
-                            testCase.setTestName(method.getAttribute("name"));
-
-                            // Determine status
-                            String status = method.getAttribute("status");
-                            if ("PASS".equals(status)) {
-                                testCase.setStatus("PASSED");
-                            }
-                            else if ("FAIL".equals(status)) {
-                                testCase.setStatus("FAILED");
-                            }
-                            else if ("SKIP".equals(status)) {
-                                testCase.setStatus("SKIPPED");
-                            }
-                            else {
-                                testCase.setStatus("UNKNOWN");
-                            }
-
-                            // Get duration if available
-                            String durationMs = method.getAttribute("duration-ms");
-                            if (durationMs != null && !durationMs.isEmpty()) {
-                                try {
-                                    double duration = Double.parseDouble(durationMs) / 1000.0; // Convert to seconds
-                                    testCase.setDuration(duration);
-                                }
-                                catch (NumberFormatException e) {
-                                    // Ignore duration parsing errors
-                                }
-                            }
-
-                            // Get exception information if failed
-                            if ("FAILED".equals(testCase.getStatus())) {
-                                NodeList exceptions = method.getElementsByTagName("exception");
-                                if (exceptions.getLength() > 0) {
-                                    Element exception = (Element) exceptions.item(0);
-
-                                    String message = exception.getAttribute("message");
-                                    if (message != null && !message.isEmpty()) {
-                                        testCase.setErrorMessage(message.length() > 2000 ?
-                                                message.substring(0, 2000) + "..." : message);
-                                    }
-
-                                    NodeList fullStackTrace = exception.getElementsByTagName("full-stacktrace");
-                                    if (fullStackTrace.getLength() > 0) {
-                                        String stackTrace = fullStackTrace.item(0).getTextContent();
-                                        testCase.setStackTrace(stackTrace.length() > 5000 ?
-                                                stackTrace.substring(0, 5000) + "..." : stackTrace);
-                                    }
-                                }
-                            }
-
-                            testCases.add(testCase);
-                            System.out.println("Parsed TestNG test case: " + className + "." + testCase.getTestName() + " - " + testCase.getStatus());
+    private void parseTestNGResultsXML(JenkinsResult jenkinsResult, XMLStreamReader reader,
+                                       Consumer<JenkinsTestCase> sink) throws XMLStreamException {
+        // TestNG XML structure: <testng-results> -> <suite> -> <test> -> <class> -> <test-method>
+        String className = "";
+        JenkinsTestCase testCase = null;
+        boolean inConfigMethod = false;
+        boolean exceptionSeen = false;
+        boolean inException = false;
+        StringBuilder stackTrace = null;
+
+        while (reader.hasNext()) {
+            int event = reader.next();
+
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                String name = reader.getLocalName();
+                if ("class".equals(name)) {
+                    className = attribute(reader, "name");
+                }
+                else if ("test-method".equals(name)) {
+                    // Skip configuration methods, only get test methods
+                    inConfigMethod = "true".equals(attribute(reader, "is-config"));
+                    if (!inConfigMethod) {
+                        testCase = createTestNGTestCase(jenkinsResult, className, reader);
+                        exceptionSeen = false;
+                    }
+                }
+                else if ("exception".equals(name) && testCase != null && !exceptionSeen) {
+                    // Only the first exception of a failed method is recorded
+                    exceptionSeen = true;
+                    inException = true;
+                    if ("FAILED".equals(testCase.getStatus())) {
+                        String message = attribute(reader, "message");
+                        if (!message.isEmpty()) {
+                            testCase.setErrorMessage(truncate(message, MAX_ERROR_MESSAGE_LENGTH));
                         }
                     }
                 }
+                else if ("full-stacktrace".equals(name) && inException && stackTrace == null &&
+                        "FAILED".equals(testCase.getStatus())) {
+                    stackTrace = new StringBuilder();
+                }
+            }
+            else if (stackTrace != null && (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA)) {
+                appendBounded(stackTrace, reader, MAX_STACK_TRACE_LENGTH + 1);
+            }
+            else if (event == XMLStreamConstants.END_ELEMENT) {
+                String name = reader.getLocalName();
+                if ("full-stacktrace".equals(name) && stackTrace != null) {
+                    testCase.setStackTrace(truncate(stackTrace.toString(), MAX_STACK_TRACE_LENGTH));
+                    stackTrace = null;
+                }
+                else if ("exception".equals(name)) {
+                    inException = false;
+                }
+                else if ("test-method".equals(name)) {
+                    if (!inConfigMethod && testCase != null) {
+                        sink.accept(testCase);
+                    }
+                    testCase = null;
+                    inConfigMethod = false;
+                    stackTrace = null;
+                }
+                else if ("class".equals(name)) {
+                    className = "";
+                }
             }
-
-        }
-        catch (Exception e) {
-            System.err.println("Error parsing TestNG results XML: " + e.getMessage());
         }
-
-        return testCases;
     }
 
-    private List<JenkinsTestCase> parseSurefireXML(JenkinsResult jenkinsResult, Document document) {
-        List<JenkinsTestCase> testCases = new ArrayList<>();
-
-        try {
-            // Surefire XML structure: <testsuite> -> <testcase>
-            NodeList testSuites = document.getElementsByTagName("testsuite");
+    private JenkinsTestCase createTestNGTestCase(JenkinsResult jenkinsResult, String className, XMLStreamReader reader) {
+        JenkinsTestCase testCase = new JenkinsTestCase();
+        testCase.setJenkinsResult(jenkinsResult);
+        testCase.setClassName(className);
+        testCase.setTestName(attribute(reader, "name"));
 
-            for (int s = 0; s < testSuites.getLength(); s++) {
-                Element testSuite = (Element) testSuites.item(s);
+        // Determine status
+        String status = attribute(reader, "status");
+        if ("PASS".equals(status)) {
+            testCase.setStatus("PASSED");
+        }
+        else if ("FAIL".equals(status)) {
+            testCase.setStatus("FAILED");
+        }
+        else if ("SKIP".equals(status)) {
+            testCase.setStatus("SKIPPED");
+        }
+        else {
+            testCase.setStatus("UNKNOWN");
+        }
 
-                NodeList testCaseNodes = testSuite.getElementsByTagName("testcase");
-                for (int t = 0; t < testCaseNodes.getLength(); t++) {
-                    Element testCaseNode = (Element) testCaseNodes.item(t);
+        // Get duration if available
+        String durationMs = attribute(reader, "duration-ms");
+        if (!durationMs.isEmpty()) {
+            try {
+                testCase.setDuration(Double.parseDouble(durationMs) / 1000.0); // Convert to seconds
+            }
+            catch (NumberFormatException e) {
+                // Ignore duration parsing errors
+            }
+        }
+        return testCase;
+    }
 
-                    JenkinsTestCase testCase = new JenkinsTestCase();
+    private void parseSurefireXML(JenkinsResult jenkinsResult, XMLStreamReader reader,
+                                  Consumer<JenkinsTestCase> sink) throws XMLStreamException {
+        // Surefire XML structure: <testsuite> -> <testcase>
+        JenkinsTestCase testCase = null;
+        String failureMessage = null;
+        String errorMessage = null;
+        StringBuilder failureText = null;
+        StringBuilder errorText = null;
+        StringBuilder currentText = null;
+        boolean skipped = false;
+
+        while (reader.hasNext()) {
+            int event = reader.next();
+
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                String name = reader.getLocalName();
+                if ("testcase".equals(name)) {
+                    testCase = new JenkinsTestCase();
                     testCase.setJenkinsResult(jenkinsResult);
-                    testCase.setClassName(testCaseNode.getAttribute("classname"));
-                    testCase.setTestName(testCaseNode.getAttribute("name"));
+                    testCase.setClassName(attribute(reader, "classname"));
+                    testCase.setTestName(attribute(reader, "name"));
 
                     // Get duration
-                    String time = testCaseNode.getAttribute("time");
-                    if (time != null && !time.isEmpty()) {
+                    String time = attribute(reader, "time");
+                    if (!time.isEmpty()) {
                         try {
                             testCase.setDuration(Double.parseDouble(time));
                         }
@@ -328,43 +554,107 @@ public class TestNGXMLParserService {
                             // Ignore duration parsing errors
                         }
                     }
-
+                    failureMessage = null;
+                    errorMessage = null;
+                    failureText = null;
+                    errorText = null;
+                    skipped = false;
+                }
+                else if (testCase != null && "failure".equals(name) && failureText == null) {
+                    failureMessage = attribute(reader, "message");
+                    failureText = new StringBuilder();
+                    currentText = failureText;
+                }
+                else if (testCase != null && "error".equals(name) && errorText == null) {
+                    errorMessage = attribute(reader, "message");
+                    errorText = new StringBuilder();
+                    currentText = errorText;
+                }
+                else if (testCase != null && "skipped".equals(name)) {
+                    skipped = true;
+                }
+            }
+            else if (currentText != null && (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA)) {
+                // Same cap as TestNG stack traces, so a multi-megabyte trace is never buffered whole
+                appendBounded(currentText, reader, MAX_STACK_TRACE_LENGTH + 1);
+            }
+            else if (event == XMLStreamConstants.END_ELEMENT) {
+                String name = reader.getLocalName();
+                if ("failure".equals(name) || "error".equals(name)) {
+                    currentText = null;
+                }
+                else if ("testcase".equals(name) && testCase != null) {
                     // Determine status based on child elements
-                    NodeList failures = testCaseNode.getElementsByTagName("failure");
-                    NodeList errors = testCaseNode.getElementsByTagName("error");
-                    NodeList skipped = testCaseNode.getElementsByTagName("skipped");
-
-                    if (failures.getLength() > 0) {
+                    if (failureText != null) {
                         testCase.setStatus("FAILED");
-                        Element failure = (Element) failures.item(0);
-                        testCase.setErrorMessage(failure.getAttribute("message"));
-                        testCase.setStackTrace(failure.getTextContent());
+                        testCase.setErrorMessage(truncate(failureMessage, MAX_ERROR_MESSAGE_LENGTH));
+                        testCase.setStackTrace(truncate(failureText.toString(), MAX_STACK_TRACE_LENGTH));
                     }
-                    else if (errors.getLength() > 0) {
+                    else if (errorText != null) {
                         testCase.setStatus("FAILED");
-                        Element error = (Element) errors.item(0);
-                        testCase.setErrorMessage(error.getAttribute("message"));
-                        testCase.setStackTrace(error.getTextContent());
+                        testCase.setErrorMessage(truncate(errorMessage, MAX_ERROR_MESSAGE_LENGTH));
+                        testCase.setStackTrace(truncate(errorText.toString(), MAX_STACK_TRACE_LENGTH));
                     }
-                    else if (skipped.getLength() > 0) {
+                    else if (skipped) {
                         testCase.setStatus("SKIPPED");
                     }
                     else {
                         testCase.setStatus("PASSED");
                     }
-
-                    testCases.add(testCase);
-                    System.out.println("Parsed Surefire test case: " + testCase.getClassName() + "." +
-                            testCase.getTestName() + " - " + testCase.getStatus());
+                    sink.accept(testCase);
+                    testCase = null;
                 }
             }
+        }
+    }
 
+    private static XMLInputFactory createXmlInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, false);
+        return factory;
+    }
+
+    private String attribute(XMLStreamReader reader, String name) {
+        // Mirror DOM semantics: a missing attribute reads as an empty string
+        String value = reader.getAttributeValue(null, name);
+        return value != null ? value : "";
+    }
+
+    private void appendBounded(StringBuilder target, XMLStreamReader reader, int maxLength) {
+        int remaining = maxLength - target.length();
+        if (remaining > 0) {
+            target.append(reader.getTextCharacters(), reader.getTextStart(), Math.min(remaining, reader.getTextLength()));
         }
-        catch (Exception e) {
-            System.err.println("Error parsing Surefire XML: " + e.getMessage());
+    }
+
+    private String truncate(String value, int maxLength) {
+        return value.length() > maxLength ? value.substring(0, maxLength) + "..." : value;
+    }
+
+    private IOException findIOException(Throwable error) {
+        // StAX wraps read failures of the underlying stream in XMLStreamException
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof IOException) {
+                return (IOException) cause;
+            }
+            if (cause instanceof XMLStreamException && ((XMLStreamException) cause).getNestedException() instanceof IOException) {
+                return (IOException) ((XMLStreamException) cause).getNestedException();
+            }
         }
+        return null;
+    }
 
-        return testCases;
+    private void closeQuietly(XMLStreamReader reader) {
+        if (reader != null) {
+            try {
+                reader.close();
+            }
+            catch (XMLStreamException e) {
+                // Ignore close errors
+            }
+        }
     }
 
     private HttpHeaders createAuthHeaders() {
@@ -0,0 +1,99 @@
+package com.qa.automation.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Byte-level Aho-Corasick automaton compiled to a dense DFA. Each literal belongs to an owner index (0-63);
+ * matching a line returns the bit mask of owners with at least one literal present, in one pass and without
+ * allocating.
+ */
+public final class AhoCorasickMatcher {
+
+    private static final int ALPHABET = 256;
+
+    private final int[][] transitions;
+    private final long[] outputs;
+
+    public AhoCorasickMatcher(List<String> literals, List<Integer> owners) {
+        List<int[]> trie = new ArrayList<>();
+        List<Long> trieOutputs = new ArrayList<>();
+        trie.add(newState());
+        trieOutputs.add(0L);
+
+        // Build the trie of all literals
+        for (int i = 0; i < literals.size(); i++) {
+            int owner = owners.get(i);
+            if (owner < 0 || owner > 63) {
+                throw new IllegalArgumentException("Owner index must be between 0 and 63: " + owner);
+            }
+            int state = 0;
+            for (byte b : literals.get(i).getBytes(StandardCharsets.UTF_8)) {
+                int symbol = b & 0xff;
+                if (trie.get(state)[symbol] < 0) {
+                    trie.get(state)[symbol] = trie.size();
+                    trie.add(newState());
+                    trieOutputs.add(0L);
+                }
+                state = trie.get(state)[symbol];
+            }
+            trieOutputs.set(state, trieOutputs.get(state) | (1L << owner));
+        }
+
+        // Breadth-first pass turns the trie into a complete DFA by following failure links
+        transitions = trie.toArray(new int[0][]);
+        outputs = new long[transitions.length];
+        for (int s = 0; s < outputs.length; s++) {
+            outputs[s] = trieOutputs.get(s);
+        }
+        int[] fail = new int[transitions.length];
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int symbol = 0; symbol < ALPHABET; symbol++) {
+            int next = transitions[0][symbol];
+            if (next < 0) {
+                transitions[0][symbol] = 0;
+            }
+            else {
+                fail[next] = 0;
+                queue.add(next);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            outputs[state] |= outputs[fail[state]];
+            for (int symbol = 0; symbol < ALPHABET; symbol++) {
+                int next = transitions[state][symbol];
+                if (next < 0) {
+                    transitions[state][symbol] = transitions[fail[state]][symbol];
+                }
+                else {
+                    fail[next] = transitions[fail[state]][symbol];
+                    queue.add(next);
+                }
+            }
+        }
+    }
+
+    /**
+     * Bit mask of the owners whose literals occur in the first length bytes of text
+     */
+    public long matchMask(byte[] text, int length) {
+        int state = 0;
+        long mask = 0;
+        for (int i = 0; i < length; i++) {
+            state = transitions[state][text[i] & 0xff];
+            mask |= outputs[state];
+        }
+        return mask;
+    }
+
+    private static int[] newState() {
+        int[] state = new int[ALPHABET];
+        Arrays.fill(state, -1);
+        return state;
+    }
+}
@@ -0,0 +1,115 @@
+package com.qa.automation.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+import lombok.Getter;
+
+/**
+ * One console-log test result style: literals that must appear on a candidate line, plus compiled regexes.
+ * Each regex names either a "test" group (fully qualified, split at the last dot) or "class" and "method"
+ * groups, and a "status" group unless the style has a separate status regex.
+ */
+@Getter
+public final class ConsoleTestPattern {
+
+    public static final ConsoleTestPattern TESTNG = new ConsoleTestPattern("testng",
+            List.of("testcases."),
+            List.of("(?<test>testcases\\.\\S+)"),
+            "PASSED|FAILED|SKIPPED");
+
+    // Gradle test logging for JUnit 4/5 ("com.acme.FooTest > bar() PASSED") and Surefire failure lines
+    public static final ConsoleTestPattern JUNIT5 = new ConsoleTestPattern("junit5",
+            List.of(" > ", "<<< "),
+            List.of("(?<class>[\\w$.]+) > (?<method>[^\\s(]+)(?:\\(\\))?\\s+(?<status>PASSED|FAILED|SKIPPED)\\b",
+                    "(?<test>[\\w$]+(?:\\.[\\w$]+)+)(?:\\(\\))?\\s+Time elapsed:.*<<<\\s*(?<status>FAILURE|ERROR)!"),
+            null);
+
+    public static final ConsoleTestPattern CUCUMBER = new ConsoleTestPattern("cucumber",
+            List.of("Scenario"),
+            List.of("Scenario(?: Outline)?:\\s+(?<method>.+?)\\s+(?:#\\s*(?<class>\\S+\\.feature)(?::\\d+)?\\s+)?"
+                    + "(?<status>(?i:passed|failed|skipped))\\b"),
+            null);
+
+    public static final ConsoleTestPattern PYTEST = new ConsoleTestPattern("pytest",
+            List.of(".py::"),
+            List.of("(?<class>\\S+\\.py(?:::\\w+)*)::(?<method>[^\\s:]+)\\s+(?<status>PASSED|FAILED|SKIPPED|ERROR|XFAIL|XPASS)\\b"),
+            null);
+
+    public static final List<ConsoleTestPattern> BUILT_IN = List.of(TESTNG, JUNIT5, CUCUMBER, PYTEST);
+
+    private final String name;
+    private final List<String> literals;
+    private final List<Rule> rules;
+    private final Pattern statusRegex;
+
+    public ConsoleTestPattern(String name, List<String> literals, List<String> regexes, String statusRegex) {
+        if (literals == null || literals.isEmpty()) {
+            throw new IllegalArgumentException("Console test pattern '" + name + "' needs at least one prefilter literal");
+        }
+        this.name = name;
+        this.literals = List.copyOf(literals);
+        this.statusRegex = statusRegex != null ? Pattern.compile(statusRegex) : null;
+
+        List<Rule> compiled = new ArrayList<>();
+        for (String regex : regexes) {
+            Rule rule = new Rule(regex);
+            if (!rule.hasStatus() && this.statusRegex == null) {
+                throw new IllegalArgumentException("Console test pattern '" + name + "' has no status group or status regex");
+            }
+            compiled.add(rule);
+        }
+        this.rules = List.copyOf(compiled);
+    }
+
+    public static ConsoleTestPattern builtIn(String name) {
+        for (ConsoleTestPattern pattern : BUILT_IN) {
+            if (pattern.getName().equalsIgnoreCase(name)) {
+                return pattern;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * A compiled regex together with the named groups it defines
+     */
+    public static final class Rule {
+        private final Pattern regex;
+        private final boolean hasTest;
+        private final boolean hasClass;
+        private final boolean hasMethod;
+        private final boolean hasStatus;
+
+        private Rule(String regex) {
+            this.regex = Pattern.compile(regex);
+            this.hasTest = regex.contains("(?<test>");
+            this.hasClass = regex.contains("(?<class>");
+            this.hasMethod = regex.contains("(?<method>");
+            this.hasStatus = regex.contains("(?<status>");
+            if (!hasTest && !hasMethod) {
+                throw new IllegalArgumentException("Console test regex needs a 'test' or 'method' group: " + regex);
+            }
+        }
+
+        public Pattern getRegex() {
+            return regex;
+        }
+
+        public boolean hasTest() {
+            return hasTest;
+        }
+
+        public boolean hasClass() {
+            return hasClass;
+        }
+
+        public boolean hasMethod() {
+            return hasMethod;
+        }
+
+        public boolean hasStatus() {
+            return hasStatus;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.qa.automation.utils;
+
+import com.qa.automation.dto.ConsoleTestMatch;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+
+/**
+ * A set of console test patterns compiled into one matcher: an Aho-Corasick prefilter over the raw line bytes
+ * selects the styles whose literals occur, and only those styles' regexes are run on the decoded line.
+ * The engine is immutable and shared; each scan takes its own {@link LineMatcher}, which reuses its Matchers.
+ */
+public final class ConsoleTestPatternEngine {
+
+    private static final Map<String, String> STATUS_ALIASES = Map.of(
+            "FAILURE", "FAILED",
+            "ERROR", "FAILED",
+            "XFAIL", "SKIPPED",
+            "XPASS", "PASSED");
+
+    private final List<ConsoleTestPattern> patterns;
+    private final AhoCorasickMatcher prefilter;
+
+    public ConsoleTestPatternEngine(List<ConsoleTestPattern> patterns) {
+        if (patterns.isEmpty() || patterns.size() > 64) {
+            throw new IllegalArgumentException("Between 1 and 64 console test patterns are supported, got " + patterns.size());
+        }
+        this.patterns = List.copyOf(patterns);
+
+        List<String> literals = new ArrayList<>();
+        List<Integer> owners = new ArrayList<>();
+        for (int i = 0; i < this.patterns.size(); i++) {
+            for (String literal : this.patterns.get(i).getLiterals()) {
+                literals.add(literal);
+                owners.add(i);
+            }
+        }
+        this.prefilter = new AhoCorasickMatcher(literals, owners);
+    }
+
+    public List<ConsoleTestPattern> getPatterns() {
+        return patterns;
+    }
+
+    /**
+     * Create a matcher for a single scan; it is not thread-safe
+     */
+    public LineMatcher newLineMatcher() {
+        return new LineMatcher();
+    }
+
+    public final class LineMatcher {
+        private final Matcher[][] ruleMatchers = new Matcher[patterns.size()][];
+        private final Matcher[] statusMatchers = new Matcher[patterns.size()];
+
+        private LineMatcher() {
+            for (int i = 0; i < patterns.size(); i++) {
+                ConsoleTestPattern pattern = patterns.get(i);
+                ruleMatchers[i] = new Matcher[pattern.getRules().size()];
+                for (int r = 0; r < ruleMatchers[i].length; r++) {
+                    ruleMatchers[i][r] = pattern.getRules().get(r).getRegex().matcher("");
+                }
+                if (pattern.getStatusRegex() != null) {
+                    statusMatchers[i] = pattern.getStatusRegex().matcher("");
+                }
+            }
+        }
+
+        /**
+         * Bit mask of the patterns whose literals occur in the raw line; zero means the line can be skipped undecoded
+         */
+        public long candidates(byte[] line, int length) {
+            return prefilter.matchMask(line, length);
+        }
+
+        /**
+         * Run the regexes of the candidate patterns against the line, returning the first match or null
+         */
+        public ConsoleTestMatch match(String line, long candidates) {
+            for (int i = 0; i < ruleMatchers.length; i++) {
+                if ((candidates & (1L << i)) == 0) {
+                    continue;
+                }
+                ConsoleTestPattern pattern = patterns.get(i);
+                for (int r = 0; r < ruleMatchers[i].length; r++) {
+                    Matcher matcher = ruleMatchers[i][r].reset(line);
+                    if (matcher.find()) {
+                        ConsoleTestMatch match = toMatch(pattern, pattern.getRules().get(r), matcher, statusMatchers[i], line);
+                        if (match != null) {
+                            return match;
+                        }
+                    }
+                }
+            }
+            return null;
+        }
+
+        private ConsoleTestMatch toMatch(ConsoleTestPattern pattern, ConsoleTestPattern.Rule rule, Matcher matcher,
+                                         Matcher statusMatcher, String line) {
+            String status;
+            if (rule.hasStatus() && matcher.group("status") != null) {
+                status = matcher.group("status");
+            }
+            else if (statusMatcher != null && statusMatcher.reset(line).find()) {
+                status = statusMatcher.group();
+            }
+            else {
+                return null;
+            }
+
+            String className = rule.hasClass() ? matcher.group("class") : null;
+            String testName = rule.hasMethod() ? matcher.group("method") : null;
+            if (testName == null && rule.hasTest()) {
+                // Fully qualified identifier: split class and method at the last dot
+                String fullTestName = matcher.group("test");
+                int lastDot = fullTestName.lastIndexOf('.');
+                if (lastDot > 0) {
+                    className = fullTestName.substring(0, lastDot);
+                    testName = fullTestName.substring(lastDot + 1);
+                }
+                else {
+                    testName = fullTestName;
+                }
+            }
+            if (testName == null) {
+                return null;
+            }
+            return new ConsoleTestMatch(className, testName, normalizeStatus(status), pattern.getName());
+        }
+    }
+
+    private static String normalizeStatus(String status) {
+        String upper = status.toUpperCase();
+        return STATUS_ALIASES.getOrDefault(upper, upper);
+    }
+}
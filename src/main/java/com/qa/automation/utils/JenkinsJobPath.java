@@ -0,0 +1,14 @@
+package com.qa.automation.utils;
+
+/**
+ * Builds Jenkins URL paths for jobs, including jobs nested in folders or multibranch projects
+ */
+public class JenkinsJobPath {
+
+    /**
+     * Convert a full job name such as "folder/sub/job" into "/job/folder/job/sub/job/job"
+     */
+    public static String of(String jobName) {
+        return "/job/" + String.join("/job/", jobName.split("/"));
+    }
+}
@@ -0,0 +1,68 @@
+package com.qa.automation.utils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token bucket rate limiter. Callers reserve a token and are told how long to wait for it, so the same bucket
+ * serves blocking callers (sleep) and reactive ones (delay) without holding a thread while waiting.
+ */
+public final class TokenBucket {
+
+    private final double capacity;
+    private final double tokensPerNano;
+
+    private double tokens;
+    private long lastRefillNanos;
+    // Upstream asked us to back off (429 Retry-After); no tokens are handed out before this time
+    private long pausedUntilNanos;
+
+    public TokenBucket(double permitsPerSecond, int burst) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive: " + permitsPerSecond);
+        }
+        this.capacity = Math.max(1, burst);
+        this.tokensPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.tokens = capacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * Reserve one token if it becomes available within maxWaitNanos. Returns the nanoseconds the caller must wait
+     * before using it (0 = now), or -1 if no token could be reserved in time; nothing is consumed in that case.
+     */
+    public synchronized long reserve(long maxWaitNanos) {
+        long now = System.nanoTime();
+        refill(now);
+
+        long pauseNanos = Math.max(0, pausedUntilNanos - now);
+        // Tokens may go negative: each reservation queues behind the ones before it
+        double deficit = 1 - tokens;
+        long refillNanos = deficit > 0 ? (long) Math.ceil(deficit / tokensPerNano) : 0;
+        long waitNanos = Math.max(pauseNanos, refillNanos);
+        if (waitNanos > maxWaitNanos) {
+            return -1;
+        }
+        tokens -= 1;
+        return waitNanos;
+    }
+
+    /**
+     * Stop handing out tokens for the given time and drop any burst credit
+     */
+    public synchronized void pause(long nanos) {
+        long now = System.nanoTime();
+        refill(now);
+        pausedUntilNanos = Math.max(pausedUntilNanos, now + nanos);
+        tokens = Math.min(tokens, 0);
+    }
+
+    public synchronized double availableTokens() {
+        refill(System.nanoTime());
+        return Math.max(0, tokens);
+    }
+
+    private void refill(long now) {
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * tokensPerNano);
+        lastRefillNanos = now;
+    }
+}
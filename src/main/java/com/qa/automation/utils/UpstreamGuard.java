@@ -0,0 +1,275 @@
+package com.qa.automation.utils;
+
+import com.qa.automation.exception.UpstreamRejectedException;
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Getter;
+import reactor.core.publisher.Mono;
+
+/**
+ * Resilience policy for one upstream system: circuit breaker, concurrency bulkhead and token bucket rate limit,
+ * checked in that order so an open circuit fails fast without using tokens or slots. Every admitted call holds
+ * a Permit that must be completed with the outcome.
+ */
+public final class UpstreamGuard {
+
+    public static final String REJECTED_CIRCUIT_OPEN = "circuit_open";
+    public static final String REJECTED_BULKHEAD_FULL = "bulkhead_full";
+    public static final String REJECTED_RATE_LIMITED = "rate_limited";
+
+    @Getter
+    private final String name;
+    private final TokenBucket rateLimiter;
+    private final Semaphore bulkhead;
+    private final int maxConcurrent;
+    private final CircuitBreaker circuitBreaker;
+    private final long maxWaitNanos;
+    // Reactive callers waiting for a bulkhead slot, oldest first; timed-out entries are skipped on release
+    private final Queue<CompletableFuture<Boolean>> slotWaiters = new ConcurrentLinkedQueue<>();
+
+    private final AtomicLong circuitOpenRejections = new AtomicLong();
+    private final AtomicLong bulkheadRejections = new AtomicLong();
+    private final AtomicLong rateLimitRejections = new AtomicLong();
+    private final AtomicLong failedCalls = new AtomicLong();
+
+    public UpstreamGuard(String name, TokenBucket rateLimiter, int maxConcurrent, CircuitBreaker circuitBreaker, long maxWaitMs) {
+        this.name = name;
+        this.rateLimiter = rateLimiter;
+        this.maxConcurrent = Math.max(1, maxConcurrent);
+        this.bulkhead = new Semaphore(this.maxConcurrent);
+        this.circuitBreaker = circuitBreaker;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+    }
+
+    /**
+     * Admit a call from a blocking caller, waiting up to the configured max wait for a bulkhead slot and a token
+     */
+    public Permit acquire() {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            throw reject(REJECTED_CIRCUIT_OPEN);
+        }
+
+        long deadline = System.nanoTime() + maxWaitNanos;
+        boolean slot;
+        try {
+            slot = bulkhead.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            circuitBreaker.releasePermission();
+            throw reject(REJECTED_BULKHEAD_FULL);
+        }
+        if (!slot) {
+            circuitBreaker.releasePermission();
+            throw reject(REJECTED_BULKHEAD_FULL);
+        }
+
+        long waitNanos = rateLimiter.reserve(Math.max(0, deadline - System.nanoTime()));
+        if (waitNanos < 0) {
+            releaseSlot();
+            circuitBreaker.releasePermission();
+            throw reject(REJECTED_RATE_LIMITED);
+        }
+        if (waitNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                releaseSlot();
+                circuitBreaker.releasePermission();
+                throw reject(REJECTED_RATE_LIMITED);
+            }
+        }
+        return new Permit();
+    }
+
+    /**
+     * Admit a call from a reactive pipeline, waiting up to the configured max wait for a bulkhead slot and a
+     * token. Both waits are callbacks and timer delays, never a blocked thread; only a call still waiting at
+     * the deadline is rejected.
+     */
+    public Mono<Permit> acquireAsync() {
+        return Mono.defer(() -> {
+            if (!circuitBreaker.tryAcquirePermission()) {
+                return Mono.error(reject(REJECTED_CIRCUIT_OPEN));
+            }
+            long deadline = System.nanoTime() + maxWaitNanos;
+            if (bulkhead.tryAcquire()) {
+                return reserveToken(deadline);
+            }
+
+            CompletableFuture<Boolean> waiter = new CompletableFuture<>();
+            slotWaiters.add(waiter);
+            // A slot freed between the failed tryAcquire and joining the queue would otherwise be missed
+            if (bulkhead.tryAcquire() && !waiter.complete(true)) {
+                releaseSlot();
+            }
+            waiter.completeOnTimeout(false, maxWaitNanos, TimeUnit.NANOSECONDS);
+            return Mono.fromFuture(waiter, true)
+                    .doOnCancel(() -> {
+                        // Handed a slot just as the caller gave up: pass it on
+                        if (!waiter.complete(false) && waiter.join()) {
+                            releaseSlot();
+                            circuitBreaker.releasePermission();
+                        }
+                    })
+                    .flatMap(granted -> {
+                        if (!granted) {
+                            circuitBreaker.releasePermission();
+                            return Mono.error(reject(REJECTED_BULKHEAD_FULL));
+                        }
+                        return reserveToken(deadline);
+                    });
+        });
+    }
+
+    private Mono<Permit> reserveToken(long deadline) {
+        long waitNanos = rateLimiter.reserve(Math.max(0, deadline - System.nanoTime()));
+        if (waitNanos < 0) {
+            releaseSlot();
+            circuitBreaker.releasePermission();
+            return Mono.error(reject(REJECTED_RATE_LIMITED));
+        }
+        Permit permit = new Permit();
+        if (waitNanos == 0) {
+            return Mono.just(permit);
+        }
+        // A cancelled wait must hand its slot back
+        return Mono.delay(Duration.ofNanos(waitNanos)).thenReturn(permit).doOnCancel(permit::abandon);
+    }
+
+    /**
+     * Return a bulkhead slot, handing it straight to the oldest reactive caller still waiting, if any
+     */
+    private void releaseSlot() {
+        CompletableFuture<Boolean> waiter;
+        while ((waiter = slotWaiters.poll()) != null) {
+            if (waiter.complete(true)) {
+                return;
+            }
+        }
+        bulkhead.release();
+    }
+
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    public long getCircuitOpenedCount() {
+        return circuitBreaker.getOpenedCount();
+    }
+
+    public int getActiveCalls() {
+        return maxConcurrent - bulkhead.availablePermits();
+    }
+
+    public double getAvailableTokens() {
+        return rateLimiter.availableTokens();
+    }
+
+    public long getRejections(String reason) {
+        switch (reason) {
+            case REJECTED_CIRCUIT_OPEN:
+                return circuitOpenRejections.get();
+            case REJECTED_BULKHEAD_FULL:
+                return bulkheadRejections.get();
+            case REJECTED_RATE_LIMITED:
+                return rateLimitRejections.get();
+            default:
+                return 0;
+        }
+    }
+
+    public long getFailedCalls() {
+        return failedCalls.get();
+    }
+
+    private UpstreamRejectedException reject(String reason) {
+        switch (reason) {
+            case REJECTED_CIRCUIT_OPEN:
+                circuitOpenRejections.incrementAndGet();
+                break;
+            case REJECTED_BULKHEAD_FULL:
+                bulkheadRejections.incrementAndGet();
+                break;
+            default:
+                rateLimitRejections.incrementAndGet();
+                break;
+        }
+        return new UpstreamRejectedException(name, reason);
+    }
+
+    /**
+     * An admitted call. Exactly one of the completion methods takes effect; later calls are ignored.
+     */
+    public final class Permit {
+
+        private final AtomicBoolean done = new AtomicBoolean(false);
+
+        /**
+         * Record the HTTP status of the response. 5xx and 429 count as upstream failures; a 429 or 503 with
+         * Retry-After also pauses the rate limiter for that long.
+         */
+        public void complete(int statusCode, Long retryAfterSeconds) {
+            if (!done.compareAndSet(false, true)) {
+                return;
+            }
+            if (retryAfterSeconds != null && retryAfterSeconds > 0 && (statusCode == 429 || statusCode == 503)) {
+                rateLimiter.pause(TimeUnit.SECONDS.toNanos(Math.min(retryAfterSeconds, 300)));
+            }
+            if (statusCode >= 500 || statusCode == 429) {
+                failedCalls.incrementAndGet();
+                circuitBreaker.onFailure();
+            }
+            else {
+                circuitBreaker.onSuccess();
+            }
+            releaseSlot();
+        }
+
+        /**
+         * Record a call that failed without a response (connect error, timeout)
+         */
+        public void fail() {
+            if (!done.compareAndSet(false, true)) {
+                return;
+            }
+            failedCalls.incrementAndGet();
+            circuitBreaker.onFailure();
+            releaseSlot();
+        }
+
+        /**
+         * Release a permit whose call was cancelled before it produced an outcome
+         */
+        public void abandon() {
+            if (!done.compareAndSet(false, true)) {
+                return;
+            }
+            circuitBreaker.releasePermission();
+            releaseSlot();
+        }
+    }
+
+    /**
+     * Parse a Retry-After header given in seconds; HTTP-date values are ignored
+     */
+    public static Long parseRetryAfter(String header) {
+        if (header == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(header.trim());
+        }
+        catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}